@@ -0,0 +1,89 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.JpashopApplication;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.service.MemberNameFilter;
+import jpabook.jpashop.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 100만 명이 있을 때 새 이름으로 가입 처리량 (joins/s)
+ * - filter      : Bloom filter가 새 이름이라고 판단 -> 중복 조회 생략, insert만 (unique 인덱스 갱신)
+ * - indexSelect : 필터 끔 -> 가입마다 중복 조회 (uk_member_name 인덱스 조회)
+ * - noIndex     : 필터 끔 + unique 제약 삭제 -> 변경 전 (가입마다 member 전체 스캔)
+ * 예) gradle jmh -Pjmh.includes=MemberJoinBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MemberJoinBenchmark {
+
+    static final long SEEDED_ID_OFFSET = 1_000_000_000L;    // 시퀀스로 발급되는 id와 겹치지 않게
+
+    @Param({"1000000"})
+    int members;
+
+    @Param({"filter", "indexSelect", "noIndex"})
+    String variant;
+
+    ConfigurableApplicationContext context;
+    MemberService memberService;
+    long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean filter = variant.equals("filter");
+        // 메모리 H2, application.yml 보다 우선 적용되도록 커맨드라인 인자로 넘김
+        context = new SpringApplicationBuilder(JpashopApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:memberJoinBench;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.sql=warn",
+                        "--logging.level.org.hibernate.type=warn",
+                        "--jpashop.member-name-filter.enabled=" + filter);
+        memberService = context.getBean(MemberService.class);
+        EntityManager em = context.getBean(EntityManager.class);
+        TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+
+        tx.executeWithoutResult(s -> {
+            em.createNativeQuery("insert into member (member_id, name, city, street, zipcode)" +
+                            " select x + " + SEEDED_ID_OFFSET + ", 'member-' || x, 'city', 'street-' || x, '12345'" +
+                            " from system_range(1, " + members + ")")
+                    .executeUpdate();
+            if (variant.equals("noIndex")) {
+                // unique 인덱스는 H2에서 unique 제약으로 생성됨
+                em.createNativeQuery("alter table member drop constraint " + Member.NAME_UNIQUE_INDEX).executeUpdate();
+            }
+            em.createNativeQuery("analyze").executeUpdate();
+        });
+        if (filter) {
+            context.getBean(MemberNameFilter.class).rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long joinNewName() {
+        Member member = new Member();
+        member.setName("new-member-" + sequence++);
+        member.setAddress(new Address("city", "street", "12345"));
+        return memberService.join(member);
+    }
+}
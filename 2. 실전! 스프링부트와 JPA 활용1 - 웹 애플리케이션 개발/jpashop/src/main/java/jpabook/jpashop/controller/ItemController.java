@@ -1,8 +1,9 @@
 package jpabook.jpashop.controller;
 
 import jpabook.jpashop.domain.item.Book;
-import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemListDto;
 import jpabook.jpashop.service.ItemService;
+import jpabook.jpashop.service.ListPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -10,8 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequiredArgsConstructor
@@ -39,9 +39,13 @@ public class ItemController {
     }
 
     @GetMapping("/items")
-    public String list(Model model) {
-        List<Item> items = itemService.findItems();
-        model.addAttribute("items", items);
+    public String list(@RequestParam(value = "after", required = false) Long after,
+                       @RequestParam(value = "before", required = false) Long before,
+                       @RequestParam(value = "size", required = false) Integer size,
+                       Model model) {
+        ListPage<ItemListDto> page = itemService.findItemPage(after, before, size);
+        model.addAttribute("items", page.getRows());
+        model.addAttribute("page", page);
         return "items/itemList";
     }
 
@@ -0,0 +1,38 @@
+package jpabook.jpashop.controller;
+
+import jpabook.jpashop.service.ItemService;
+import jpabook.jpashop.service.MemberService;
+import jpabook.jpashop.service.NamePage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 주문 화면 회원/상품 선택용 검색
+ * GET /api/lookup/members?prefix=김&size=20
+ * 다음 페이지 : 마지막 항목의 name, id를 afterName, afterId로 전달
+ */
+@RestController
+@RequiredArgsConstructor
+public class LookupApiController {
+
+    private final MemberService memberService;
+    private final ItemService itemService;
+
+    @GetMapping("/api/lookup/members")
+    public NamePage members(@RequestParam(value = "prefix", defaultValue = "") String prefix,
+                            @RequestParam(value = "afterName", required = false) String afterName,
+                            @RequestParam(value = "afterId", required = false) Long afterId,
+                            @RequestParam(value = "size", required = false) Integer size) {
+        return memberService.searchNames(prefix, afterName, afterId, size);
+    }
+
+    @GetMapping("/api/lookup/items")
+    public NamePage items(@RequestParam(value = "prefix", defaultValue = "") String prefix,
+                          @RequestParam(value = "afterName", required = false) String afterName,
+                          @RequestParam(value = "afterId", required = false) Long afterId,
+                          @RequestParam(value = "size", required = false) Integer size) {
+        return itemService.searchNames(prefix, afterName, afterId, size);
+    }
+}
@@ -3,6 +3,8 @@ package jpabook.jpashop.controller;
 import jakarta.validation.Valid;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.MemberListDto;
+import jpabook.jpashop.service.ListPage;
 import jpabook.jpashop.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
@@ -10,8 +12,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequiredArgsConstructor
@@ -43,9 +44,13 @@ public class MemberController {
     }
 
     @GetMapping("/members")
-    public String list(Model model) {
-        List<Member> members = memberService.findMembers();
-        model.addAttribute("members", members);
+    public String list(@RequestParam(value = "after", required = false) Long after,
+                       @RequestParam(value = "before", required = false) Long before,
+                       @RequestParam(value = "size", required = false) Integer size,
+                       Model model) {
+        ListPage<MemberListDto> page = memberService.findMemberPage(after, before, size);
+        model.addAttribute("members", page.getRows());
+        model.addAttribute("page", page);
 
         return "members/memberList";
     }
@@ -1,10 +1,6 @@
 package jpabook.jpashop.controller;
 
-import jpabook.jpashop.domain.Member;
-import jpabook.jpashop.domain.Order;
-import jpabook.jpashop.domain.item.Item;
-import jpabook.jpashop.service.ItemService;
-import jpabook.jpashop.service.MemberService;
+import jpabook.jpashop.service.OrderListPage;
 import jpabook.jpashop.service.OrderSearch;
 import jpabook.jpashop.service.OrderService;
 import lombok.RequiredArgsConstructor;
@@ -12,25 +8,15 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Controller
 @RequiredArgsConstructor
 public class OrderController {
 
     private final OrderService orderService;
-    private final MemberService memberService;
-    private final ItemService itemService;
 
     @GetMapping("/order")
-    public String createForm(Model model) {
-
-        List<Member> members = memberService.findMembers();
-        List<Item> items = itemService.findItems();
-
-        model.addAttribute("members", members);
-        model.addAttribute("items", items);
-
+    public String createForm() {
+        // 회원/상품 선택 목록은 화면에서 /api/lookup/** 으로 검색해서 채움
         return "order/orderForm";
     }
 
@@ -47,13 +33,15 @@ public class OrderController {
     @GetMapping("/orders")
     public String listForm(@ModelAttribute("orderSearch")OrderSearch orderSearch, Model model) {
 
-        List<Order> orders = orderService.findOrder(orderSearch);
-        model.addAttribute("orders", orders);
+        // open-in-view 꺼져 있음 -> 화면에 필요한 값은 DTO로 한 번에 조회
+        OrderListPage page = orderService.findOrderPage(orderSearch);
+        model.addAttribute("orders", page.getOrders());
+        model.addAttribute("nextCursor", page.getNextCursor());
 
         return "order/orderList";
     }
 
-    @PostMapping("/orders/cancel")
+    @PostMapping("/orders/{orderId}/cancel")
     public String cancelOrder(@PathVariable("orderId") Long orderId) {
         orderService.cancelOrder(orderId);
         return "redirect:/orders";
@@ -8,9 +8,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 이름 중복 방지 + 이름 앞부분 검색
+@Table(indexes = @Index(name = Member.NAME_UNIQUE_INDEX, columnList = "name", unique = true))
 @Getter @Setter
 public class Member {
 
+    public static final String NAME_UNIQUE_INDEX = "uk_member_name";
+
     @Id @GeneratedValue
     @Column(name = "member_id")
     private Long id;
@@ -12,6 +12,7 @@ import java.util.List;
 @Entity
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
+@Table(indexes = @Index(name = "idx_item_name", columnList = "name"))  // 이름 앞부분 검색
 @Getter @Setter
 public class Item {
 
@@ -0,0 +1,22 @@
+package jpabook.jpashop.repository;
+
+import lombok.Getter;
+
+/**
+ * 상품 목록 화면 전용 조회 DTO (화면에 표시하는 컬럼만)
+ */
+@Getter
+public class ItemListDto {
+
+    private final Long id;
+    private final String name;
+    private final int price;
+    private final int stockQuantity;
+
+    public ItemListDto(Long id, String name, int price, int stockQuantity) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+}
@@ -29,4 +29,26 @@ public class ItemRepository {
         return em.createQuery("select i from Item i", Item.class)
                 .getResultList();
     }
+
+    /**
+     * 상품 목록 화면 조회 (키셋 페이징)
+     */
+    public List<ItemListDto> findItemList(Long afterId, Long beforeId, int limit) {
+        return KeysetQuery.find(em,
+                "select new jpabook.jpashop.repository.ItemListDto(i.id, i.name, i.price, i.stockQuantity)" +
+                        " from Item i",
+                ItemListDto.class, "i", afterId, beforeId, limit);
+    }
+
+    public long count() {
+        return em.createQuery("select count(i) from Item i", Long.class)
+                .getSingleResult();
+    }
+
+    /**
+     * 이름 앞부분 검색 (주문 화면 상품 선택)
+     */
+    public List<NameDto> findNamesByPrefix(String prefix, String afterName, Long afterId, int limit) {
+        return PrefixQuery.findNames(em, "Item", prefix, afterName, afterId, limit);
+    }
 }
@@ -0,0 +1,39 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * id 기준 키셋 페이징 조회 (offset 없이 PK 인덱스 범위 검색 -> 몇 번째 페이지든 같은 비용)
+ * - beforeId 있으면 : id < beforeId, id 내림차순 (이전 페이지, 결과는 역순)
+ * - 아니면 : id > afterId, id 오름차순 (다음 페이지)
+ */
+final class KeysetQuery {
+
+    private KeysetQuery() {
+    }
+
+    static <T> List<T> find(EntityManager em, String select, Class<T> type, String alias,
+                            Long afterId, Long beforeId, int limit) {
+        String id = alias + ".id";
+        StringBuilder jpql = new StringBuilder(select);
+        Long cursor = null;
+        if (beforeId != null) {
+            jpql.append(" where ").append(id).append(" < :cursor order by ").append(id).append(" desc");
+            cursor = beforeId;
+        } else if (afterId != null) {
+            jpql.append(" where ").append(id).append(" > :cursor order by ").append(id);
+            cursor = afterId;
+        } else {
+            jpql.append(" order by ").append(id);
+        }
+
+        TypedQuery<T> query = em.createQuery(jpql.toString(), type);
+        if (cursor != null) {
+            query.setParameter("cursor", cursor);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
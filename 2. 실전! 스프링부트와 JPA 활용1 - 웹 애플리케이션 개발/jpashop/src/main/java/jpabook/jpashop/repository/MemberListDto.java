@@ -0,0 +1,24 @@
+package jpabook.jpashop.repository;
+
+import lombok.Getter;
+
+/**
+ * 회원 목록 화면 전용 조회 DTO (화면에 표시하는 컬럼만)
+ */
+@Getter
+public class MemberListDto {
+
+    private final Long id;
+    private final String name;
+    private final String city;
+    private final String street;
+    private final String zipcode;
+
+    public MemberListDto(Long id, String name, String city, String street, String zipcode) {
+        this.id = id;
+        this.name = name;
+        this.city = city;
+        this.street = street;
+        this.zipcode = zipcode;
+    }
+}
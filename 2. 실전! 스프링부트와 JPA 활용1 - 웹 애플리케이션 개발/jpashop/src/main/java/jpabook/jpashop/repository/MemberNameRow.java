@@ -0,0 +1,18 @@
+package jpabook.jpashop.repository;
+
+import lombok.Getter;
+
+/**
+ * 회원 이름 필터 적재용 (id, 이름)
+ */
+@Getter
+public class MemberNameRow {
+
+    private final Long id;
+    private final String name;
+
+    public MemberNameRow(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
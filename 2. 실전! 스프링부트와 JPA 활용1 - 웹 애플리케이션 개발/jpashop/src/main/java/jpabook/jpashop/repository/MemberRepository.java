@@ -1,8 +1,6 @@
 package jpabook.jpashop.repository;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.PersistenceUnit;
 import jpabook.jpashop.domain.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -29,9 +27,53 @@ public class MemberRepository {
                 .getResultList();
     }
 
+    public boolean existsByName(String name) {
+        return !em.createQuery("select m.id from Member m where m.name = :name", Long.class)
+                .setParameter("name", name)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    // 이름 필터 적재용 (id 순 키셋)
+    public List<MemberNameRow> findNameRows(Long afterId, int limit) {
+        return em.createQuery("select new jpabook.jpashop.repository.MemberNameRow(m.id, m.name) from Member m" +
+                        " where m.id > :afterId order by m.id", MemberNameRow.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public void flush() {
+        em.flush();
+    }
+
     public List<Member> findByName(String name) {
         return em.createQuery("select m from Member m where m.name = :name", Member.class)
                 .setParameter("name", name)
                 .getResultList();
     }
+
+    /**
+     * 회원 목록 화면 조회 (키셋 페이징)
+     */
+    public List<MemberListDto> findMemberList(Long afterId, Long beforeId, int limit) {
+        return KeysetQuery.find(em,
+                "select new jpabook.jpashop.repository.MemberListDto(" +
+                        "m.id, m.name, m.address.city, m.address.street, m.address.zipcode)" +
+                        " from Member m",
+                MemberListDto.class, "m", afterId, beforeId, limit);
+    }
+
+    public long count() {
+        return em.createQuery("select count(m) from Member m", Long.class)
+                .getSingleResult();
+    }
+
+    /**
+     * 이름 앞부분 검색 (주문 화면 회원 선택)
+     */
+    public List<NameDto> findNamesByPrefix(String prefix, String afterName, Long afterId, int limit) {
+        return PrefixQuery.findNames(em, "Member", prefix, afterName, afterId, limit);
+    }
 }
@@ -0,0 +1,18 @@
+package jpabook.jpashop.repository;
+
+import lombok.Getter;
+
+/**
+ * 선택 목록(주문 화면의 회원/상품 선택)용 조회 DTO : id, 이름만
+ */
+@Getter
+public class NameDto {
+
+    private final Long id;
+    private final String name;
+
+    public NameDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
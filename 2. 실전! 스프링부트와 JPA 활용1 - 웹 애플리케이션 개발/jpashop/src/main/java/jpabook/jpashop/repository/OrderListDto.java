@@ -0,0 +1,33 @@
+package jpabook.jpashop.repository;
+
+import jpabook.jpashop.domain.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 화면 전용 조회 DTO
+ * 회원명 + 대표상품(첫 번째 주문상품)을 쿼리 한 번으로 가져옴 -> 화면에서 지연 로딩 없음
+ */
+@Getter
+public class OrderListDto {
+
+    private final Long orderId;
+    private final String memberName;
+    private final String itemName;      // 대표상품 이름
+    private final Integer orderPrice;   // 대표상품 주문가격
+    private final Integer count;        // 대표상품 주문수량
+    private final OrderStatus status;
+    private final LocalDateTime orderDate;
+
+    public OrderListDto(Long orderId, String memberName, String itemName, Integer orderPrice, Integer count,
+                        OrderStatus status, LocalDateTime orderDate) {
+        this.orderId = orderId;
+        this.memberName = memberName;
+        this.itemName = itemName;
+        this.orderPrice = orderPrice;
+        this.count = count;
+        this.status = status;
+        this.orderDate = orderDate;
+    }
+}
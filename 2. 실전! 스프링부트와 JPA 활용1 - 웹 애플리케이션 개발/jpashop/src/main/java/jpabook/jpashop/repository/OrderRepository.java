@@ -63,4 +63,44 @@ public class OrderRepository {
         TypedQuery<Order> query = em.createQuery(cq).setMaxResults(1000); //최대 1000 건
         return query.getResultList();
     }
+
+    /**
+     * 주문 목록 화면 조회 (DTO 프로젝션, 쿼리 1번)
+     * - member, 대표상품(주문상품 id가 가장 작은 것)과 그 item을 조인
+     * - 주문 id 내림차순 키셋 페이징 : cursor 보다 작은 id를 limit 건
+     */
+    public List<OrderListDto> findOrderList(OrderSearch orderSearch, Long cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select new jpabook.jpashop.repository.OrderListDto(" +
+                        "o.id, m.name, i.name, oi.orderPrice, oi.count, o.status, o.orderDate)" +
+                " from Order o" +
+                " join o.member m" +
+                " left join o.orderItems oi" +
+                " on oi.id = (select min(oi2.id) from OrderItem oi2 where oi2.order = o)" +
+                " left join oi.item i" +
+                " where 1 = 1");
+
+        if (orderSearch.getOrderStatus() != null) {
+            jpql.append(" and o.status = :status");
+        }
+        if (StringUtils.hasText(orderSearch.getMemberName())) {
+            jpql.append(" and m.name like :name");
+        }
+        if (cursor != null) {
+            jpql.append(" and o.id < :cursor");
+        }
+        jpql.append(" order by o.id desc");
+
+        TypedQuery<OrderListDto> query = em.createQuery(jpql.toString(), OrderListDto.class);
+        if (orderSearch.getOrderStatus() != null) {
+            query.setParameter("status", orderSearch.getOrderStatus());
+        }
+        if (StringUtils.hasText(orderSearch.getMemberName())) {
+            query.setParameter("name", "%" + orderSearch.getMemberName() + "%");
+        }
+        if (cursor != null) {
+            query.setParameter("cursor", cursor);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
 }
@@ -0,0 +1,51 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * 이름 앞부분 검색 (name like 'x%' -> name 인덱스 범위 검색)
+ * 정렬 (name, id), 키셋 페이징 : (afterName, afterId) 다음 행부터 limit 건
+ */
+final class PrefixQuery {
+
+    private PrefixQuery() {
+    }
+
+    static List<NameDto> findNames(EntityManager em, String entityName, String prefix,
+                                   String afterName, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("select new jpabook.jpashop.repository.NameDto(e.id, e.name)")
+                .append(" from ").append(entityName).append(" e")
+                .append(" where e.name like :prefix escape '\\'");
+        if (afterName != null && afterId != null) {
+            jpql.append(" and (e.name > :afterName or (e.name = :afterName and e.id > :afterId))");
+        }
+        jpql.append(" order by e.name, e.id");
+
+        TypedQuery<NameDto> query = em.createQuery(jpql.toString(), NameDto.class)
+                .setParameter("prefix", escape(prefix) + "%");
+        if (afterName != null && afterId != null) {
+            query.setParameter("afterName", afterName)
+                    .setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // 입력값의 %, _ 는 와일드카드가 아닌 문자로 검색
+    static String escape(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(prefix.length());
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package jpabook.jpashop.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter
+ * - mightContain == false 이면 넣은 적 없는 값이 확실함, true 이면 오탐(false positive)일 수 있음
+ * - 비트 배열 크기/해시 개수는 예상 건수와 오탐률로 결정 (예상 100만 건, 1% -> 약 1.2MB, 해시 7개)
+ * - 비트는 켜기만 하므로 동시에 put/mightContain 해도 안전 (AtomicLongArray)
+ */
+final class BloomFilter {
+
+    private static final int MAX_WORDS = 1 << 25;  // 비트 인덱스를 int로 계산 -> 최대 2^31 비트 (256MB)
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(MAX_WORDS, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1, h2, i);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1, h2, i);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // double hashing : h1 + i * h2 (Kirsch-Mitzenmacher)
+    private int index(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return (int) (combined % bitSize);
+    }
+
+    // 문자(UTF-16) 단위 FNV-1a 64 + murmur3 finalizer, 상/하위 32비트를 각각 해시로 사용 (byte[] 변환 없음)
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,6 +1,7 @@
 package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemListDto;
 import jpabook.jpashop.repository.ItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,10 +15,15 @@ import java.util.List;
 public class ItemService {
 
     private final ItemRepository itemRepository;
+    private final RowCountCache rowCountCache;
 
     @Transactional
     public void saveItem(Item item) {
+        boolean isNew = item.getId() == null;
         itemRepository.save(item);
+        if (isNew) {
+            rowCountCache.incrementAfterCommit("item");
+        }
     }
 
     @Transactional
@@ -37,4 +43,18 @@ public class ItemService {
     public Item findOne(Long id) {
         return itemRepository.findOne(id);
     }
+
+    // 상품 목록 화면 (키셋 페이징)
+    public ListPage<ItemListDto> findItemPage(Long afterId, Long beforeId, Integer size) {
+        int pageSize = ListPage.pageSize(size);
+        List<ItemListDto> rows = itemRepository.findItemList(afterId, beforeId, pageSize + 1);
+        long totalCount = rowCountCache.get("item", itemRepository::count);
+        return ListPage.of(rows, pageSize, afterId, beforeId, totalCount, ItemListDto::getId);
+    }
+
+    // 이름 앞부분 검색 (id, 이름만)
+    public NamePage searchNames(String prefix, String afterName, Long afterId, Integer size) {
+        int pageSize = NamePage.pageSize(size);
+        return NamePage.of(itemRepository.findNamesByPrefix(prefix, afterName, afterId, pageSize + 1), pageSize);
+    }
 }
@@ -0,0 +1,68 @@
+package jpabook.jpashop.service;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이징 목록 한 페이지
+ * 이전/다음 페이지는 firstId(before), lastId(after)로 조회
+ * totalCount : 캐시된 전체 건수 (최대 RowCountCache.TTL 만큼 늦을 수 있음)
+ */
+@Getter
+public class ListPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> rows;
+    private final int size;
+    private final Long firstId;
+    private final Long lastId;
+    private final boolean hasPrev;
+    private final boolean hasNext;
+    private final long totalCount;
+
+    private ListPage(List<T> rows, int size, Long firstId, Long lastId, boolean hasPrev, boolean hasNext, long totalCount) {
+        this.rows = rows;
+        this.size = size;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.hasPrev = hasPrev;
+        this.hasNext = hasNext;
+        this.totalCount = totalCount;
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * size + 1 건 조회 결과 -> 페이지
+     * backward(이전 페이지) 조회 결과는 id 내림차순이므로 뒤집음
+     */
+    static <T> ListPage<T> of(List<T> fetched, int size, Long afterId, Long beforeId,
+                              long totalCount, Function<T, Long> idOf) {
+        boolean more = fetched.size() > size;
+        List<T> rows = new ArrayList<>(more ? fetched.subList(0, size) : fetched);
+
+        boolean backward = beforeId != null;
+        if (backward) {
+            Collections.reverse(rows);
+        }
+        boolean hasPrev = backward ? more : afterId != null;
+        boolean hasNext = backward || more;
+
+        if (rows.isEmpty()) {
+            return new ListPage<>(rows, size, null, null, false, false, totalCount);
+        }
+        return new ListPage<>(rows, size, idOf.apply(rows.get(0)), idOf.apply(rows.get(rows.size() - 1)),
+                hasPrev, hasNext, totalCount);
+    }
+}
@@ -1,36 +1,65 @@
 package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.MemberListDto;
 import jpabook.jpashop.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final String DUPLICATE_MEMBER = "이미 존재하는 회원입니다.";
+
     private final MemberRepository memberRepository;
+    private final RowCountCache rowCountCache;
+    private final MemberNameFilter memberNameFilter;
 
     // 회원가입
     @Transactional
     public Long join(Member member) {
         validateDuplicateMember(member);    // 중복 회원 검증
-        return memberRepository.save(member);
+        Long id = memberRepository.save(member);
+        memberNameFilter.add(member.getName());
+        flushMember();
+        rowCountCache.incrementAfterCommit("member");
+        return id;
     }
 
     private void validateDuplicateMember(Member member) {
-        // EXCEPTION
-        // 멀티스레드 동시성 문제 해결을 위해서는 member.name을 unique 잡길 권장
-        List<Member> findMembers = memberRepository.findByName(member.getName());
-        if(!findMembers.isEmpty()) {
-            throw new IllegalStateException("이미 존재하는 회원입니다.");
+        // 필터에 없는 이름 -> 새 이름이 확실하므로 조회 생략
+        // 멀티스레드 동시성 문제(같은 이름 동시 가입)는 member.name unique 인덱스가 막음 (flushMember)
+        if (memberNameFilter.mightContain(member.getName()) && memberRepository.existsByName(member.getName())) {
+            throw new IllegalStateException(DUPLICATE_MEMBER);
         }
     }
 
+    // insert를 바로 실행해서 이름 unique 제약 위반을 중복 회원 예외로 변환
+    private void flushMember() {
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateName(e)) {
+                throw new IllegalStateException(DUPLICATE_MEMBER, e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDuplicateName(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Member.NAME_UNIQUE_INDEX);
+    }
+
     public List<Member> findMembers() {
         return memberRepository.findAll();
     }
@@ -39,5 +68,19 @@ public class MemberService {
         return memberRepository.find(memberId);
     }
 
+    // 회원 목록 화면 (키셋 페이징)
+    public ListPage<MemberListDto> findMemberPage(Long afterId, Long beforeId, Integer size) {
+        int pageSize = ListPage.pageSize(size);
+        List<MemberListDto> rows = memberRepository.findMemberList(afterId, beforeId, pageSize + 1);
+        long totalCount = rowCountCache.get("member", memberRepository::count);
+        return ListPage.of(rows, pageSize, afterId, beforeId, totalCount, MemberListDto::getId);
+    }
+
+    // 이름 앞부분 검색 (id, 이름만)
+    public NamePage searchNames(String prefix, String afterName, Long afterId, Integer size) {
+        int pageSize = NamePage.pageSize(size);
+        return NamePage.of(memberRepository.findNamesByPrefix(prefix, afterName, afterId, pageSize + 1), pageSize);
+    }
+
 
 }
@@ -0,0 +1,40 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.NameDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 이름 검색 결과 한 페이지
+ * 다음 페이지는 마지막 항목의 (name, id)를 afterName, afterId로 넘겨 조회
+ */
+@Getter
+public class NamePage {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<NameDto> items;
+    private final boolean hasNext;
+
+    public NamePage(List<NameDto> items, boolean hasNext) {
+        this.items = items;
+        this.hasNext = hasNext;
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // size + 1 건 조회 결과 -> 페이지
+    static NamePage of(List<NameDto> rows, int size) {
+        if (rows.size() > size) {
+            return new NamePage(rows.subList(0, size), true);
+        }
+        return new NamePage(rows, false);
+    }
+}
@@ -0,0 +1,26 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.OrderListDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지
+ * nextCursor : 다음 페이지 조회시 넘길 마지막 주문 id (없으면 null)
+ */
+@Getter
+public class OrderListPage {
+
+    private final List<OrderListDto> orders;
+    private final Long nextCursor;
+
+    public OrderListPage(List<OrderListDto> orders, Long nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -7,6 +7,19 @@ import lombok.Setter;
 @Getter @Setter
 public class OrderSearch {
 
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
     private String memberName;  // 회원 이름
     private OrderStatus orderStatus;    // 주문 상태 [ORDER, CANCEL]
+
+    private Long cursor;    // 이전 페이지 마지막 주문 id (주문 id 내림차순)
+    private Integer size;   // 페이지 크기
+
+    public int getPageSize() {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
 }
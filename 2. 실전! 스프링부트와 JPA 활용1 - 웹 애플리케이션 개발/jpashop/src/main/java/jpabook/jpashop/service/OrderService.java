@@ -7,6 +7,7 @@ import jpabook.jpashop.domain.OrderItem;
 import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.repository.MemberRepository;
+import jpabook.jpashop.repository.OrderListDto;
 import jpabook.jpashop.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -65,4 +66,20 @@ public class OrderService {
     public List<Order> findOrder(OrderSearch orderSearch){
         return orderRepository.findAllByCriteria(orderSearch);
     }
+
+    /**
+     * 주문 목록 화면 조회
+     * 한 건 더 읽어서 다음 페이지 존재 여부 판단
+     */
+    public OrderListPage findOrderPage(OrderSearch orderSearch) {
+        int size = orderSearch.getPageSize();
+        List<OrderListDto> orders = orderRepository.findOrderList(orderSearch, orderSearch.getCursor(), size + 1);
+
+        Long nextCursor = null;
+        if (orders.size() > size) {
+            orders = orders.subList(0, size);
+            nextCursor = orders.get(size - 1).getOrderId();
+        }
+        return new OrderListPage(orders, nextCursor);
+    }
 }
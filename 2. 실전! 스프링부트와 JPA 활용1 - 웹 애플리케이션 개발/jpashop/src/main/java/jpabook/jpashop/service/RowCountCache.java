@@ -0,0 +1,51 @@
+package jpabook.jpashop.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 화면 전체 건수 캐시
+ * count(*)는 전체 행을 읽으므로 TTL 동안 재사용
+ * 이 애플리케이션에서 추가한 행은 커밋 후 캐시 값에 더함 (다른 경로로 바뀐 건수는 TTL 후 반영)
+ */
+@Component
+public class RowCountCache {
+
+    static final long TTL_MILLIS = 60_000;
+
+    private final ConcurrentHashMap<String, Entry> counts = new ConcurrentHashMap<>();
+
+    public long get(String key, LongSupplier loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(key);
+        if (entry == null || entry.expiresAt < now) {
+            entry = new Entry(loader.getAsLong(), now + TTL_MILLIS);
+            counts.put(key, entry);
+        }
+        return entry.count;
+    }
+
+    public void incrementAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(key);
+            }
+        });
+    }
+
+    private void increment(String key) {
+        counts.computeIfPresent(key, (k, entry) -> new Entry(entry.count + 1, entry.expiresAt));
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -1,13 +1,21 @@
 package jpabook.jpashop.service;
 
+import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.MemberListDto;
 import jpabook.jpashop.repository.MemberRepository;
+import jpabook.jpashop.repository.NameDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -16,6 +24,8 @@ class MemberServiceTest {
 
     @Autowired MemberService memberService;
     @Autowired MemberRepository memberRepository;
+    @Autowired MemberNameFilter memberNameFilter;
+    @Autowired EntityManager em;
 
     @Test
     void 회원가입() throws Exception{
@@ -49,4 +59,93 @@ class MemberServiceTest {
         }, "예외가 발생해야 한다.");
     }
 
+    @Test
+    void 필터에_없는_이름은_중복조회_생략() {
+        // Given
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Member member = new Member();
+        member.setName("새회원");
+        assertFalse(memberNameFilter.mightContain("새회원"));
+
+        // When
+        long before = statistics.getQueryExecutionCount();
+        memberService.join(member);
+        long after = statistics.getQueryExecutionCount();
+
+        // Then
+        assertEquals(before, after, "새 이름이 확실하면 중복 조회를 하지 않는다.");
+        assertTrue(memberNameFilter.mightContain("새회원"), "가입한 이름은 필터에 추가된다.");
+    }
+
+    @Test
+    void 필터가_모르는_중복은_unique_인덱스로_예외() {
+        // Given : 가입(join)을 거치지 않고 저장된 이름 -> 필터에 없음
+        Member existing = new Member();
+        existing.setName("park");
+        em.persist(existing);
+        em.flush();
+        assertFalse(memberNameFilter.mightContain("park"));
+
+        Member member = new Member();
+        member.setName("park");
+
+        // When, Then
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> memberService.join(member));
+        assertEquals("이미 존재하는 회원입니다.", e.getMessage());
+    }
+
+    @Test
+    void 회원목록_키셋_페이징() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            Member member = new Member();
+            member.setName("페이징" + i);
+            ids.add(memberService.join(member));
+        }
+        Long start = ids.get(0) - 1;
+
+        // When
+        ListPage<MemberListDto> first = memberService.findMemberPage(start, null, 20);
+        ListPage<MemberListDto> second = memberService.findMemberPage(first.getLastId(), null, 20);
+        ListPage<MemberListDto> third = memberService.findMemberPage(second.getLastId(), null, 20);
+        ListPage<MemberListDto> back = memberService.findMemberPage(null, third.getFirstId(), 20);
+
+        // Then
+        assertEquals(ids.subList(0, 20), first.getRows().stream().map(MemberListDto::getId).toList());
+        assertEquals(ids.subList(20, 40), second.getRows().stream().map(MemberListDto::getId).toList());
+        assertEquals(ids.subList(40, 45), third.getRows().stream().map(MemberListDto::getId).toList());
+        assertTrue(second.isHasNext());
+        assertFalse(third.isHasNext());
+        assertTrue(third.isHasPrev());
+        assertEquals(second.getRows().stream().map(MemberListDto::getId).toList(),
+                back.getRows().stream().map(MemberListDto::getId).toList(), "이전 페이지는 id 오름차순으로 보여준다.");
+        assertTrue(back.isHasNext());
+        assertTrue(first.getTotalCount() >= 45);
+    }
+
+    @Test
+    void 이름_앞부분_검색() {
+        // Given
+        for (String name : new String[]{"검색_a", "검색_b", "검색_c", "검색%d", "검색x", "다른검색_a"}) {
+            Member member = new Member();
+            member.setName(name);
+            memberService.join(member);
+        }
+
+        // When
+        NamePage first = memberService.searchNames("검색_", null, null, 2);
+        NameDto last = first.getItems().get(1);
+        NamePage second = memberService.searchNames("검색_", last.getName(), last.getId(), 2);
+
+        // Then
+        assertEquals(List.of("검색_a", "검색_b"), first.getItems().stream().map(NameDto::getName).toList());
+        assertTrue(first.isHasNext());
+        assertEquals(List.of("검색_c"), second.getItems().stream().map(NameDto::getName).toList(),
+                "_ 는 와일드카드가 아닌 문자로 검색한다.");
+        assertFalse(second.isHasNext());
+        assertEquals(1, memberService.searchNames("검색%", null, null, null).getItems().size());
+    }
+
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.repository.OrderRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -79,6 +81,52 @@ class OrderServiceTest {
                 () -> orderService.order(member.getId(), item.getId(), orderCount));
     }
 
+    @Test
+    void 주문목록_주문수와_무관하게_쿼리_한번() {
+        // Given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 1000);
+        Book book2 = createBook("SPRING", 20000, 1000);
+        for (int i = 0; i < 3; i++) {
+            orderService.order(member.getId(), book.getId(), 1);
+        }
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        long small = countStatements(statistics);
+        for (int i = 0; i < 30; i++) {
+            orderService.order(member.getId(), (i % 2 == 0 ? book : book2).getId(), 2);
+        }
+        long large = countStatements(statistics);
+
+        // Then
+        Assertions.assertEquals(1, small, "주문 목록은 쿼리 한 번으로 조회해야 한다.");
+        Assertions.assertEquals(small, large, "주문 수가 늘어도 쿼리 수는 같아야 한다.");
+
+        OrderSearch orderSearch = new OrderSearch();
+        orderSearch.setSize(20);
+        OrderListPage first = orderService.findOrderPage(orderSearch);
+        Assertions.assertEquals(20, first.getOrders().size());
+        Assertions.assertTrue(first.hasNext());
+        Assertions.assertEquals("회원1", first.getOrders().get(0).getMemberName());
+        Assertions.assertNotNull(first.getOrders().get(0).getItemName());
+
+        orderSearch.setCursor(first.getNextCursor());
+        OrderListPage second = orderService.findOrderPage(orderSearch);
+        Assertions.assertEquals(13, second.getOrders().size(), "33건 중 남은 13건");
+        Assertions.assertFalse(second.hasNext());
+        Assertions.assertTrue(second.getOrders().get(0).getOrderId() < first.getNextCursor());
+    }
+
+    private long countStatements(Statistics statistics) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        orderService.findOrderPage(new OrderSearch());
+        return statistics.getPrepareStatementCount();
+    }
+
     private Member createMember() {
         Member member = new Member();
         member.setName("회원1");
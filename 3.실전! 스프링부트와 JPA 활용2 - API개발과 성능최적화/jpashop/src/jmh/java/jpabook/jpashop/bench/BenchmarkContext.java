@@ -0,0 +1,106 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jpabook.jpashop.JpashopApplication;
+import jpabook.jpashop.domain.*;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 스프링 컨텍스트 (메모리 H2) + 데이터 생성
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final Statistics statistics;
+
+    public BenchmarkContext(String dbName, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                // application.yml 보다 우선 적용되도록 커맨드라인 인자로 넘김
+                "--spring.datasource.url=jdbc:h2:mem:" + dbName + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate.sql=warn",
+                "--logging.level.org.hibernate.type=warn"));
+        args.addAll(List.of(extraArgs));   // 예) 대량 데이터 -> "--jpashop.seed.enabled=true", ...
+        context = new SpringApplicationBuilder(JpashopApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        statistics = getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /* 실행된 JDBC statement 누적 개수 */
+    public long statementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 회원 members명, 회원당 주문 ordersPerMember개, 주문당 상품 itemsPerOrder개
+     */
+    public void seed(int members, int ordersPerMember, int itemsPerOrder, int items) {
+        EntityManager em = getBean(EntityManager.class);
+        TransactionTemplate tx = getBean(TransactionTemplate.class);
+        Random random = new Random(42);
+
+        List<Long> itemIds = tx.execute(s -> {
+            List<Long> ids = new ArrayList<>(items);
+            for (int i = 0; i < items; i++) {
+                Book book = new Book();
+                book.setName("BOOK" + i);
+                book.setPrice(1000 + random.nextInt(50) * 1000);
+                book.setStockQuantity(Integer.MAX_VALUE / 2);
+                em.persist(book);
+                ids.add(book.getId());
+            }
+            return ids;
+        });
+
+        for (int m = 0; m < members; m++) {
+            int memberNo = m;
+            tx.executeWithoutResult(s -> {
+                Member member = new Member();
+                member.setName("member" + memberNo);
+                member.setAddress(new Address("city" + memberNo % 10, "street" + memberNo, "zip" + memberNo));
+                em.persist(member);
+
+                for (int o = 0; o < ordersPerMember; o++) {
+                    Delivery delivery = new Delivery();
+                    delivery.setAddress(member.getAddress());
+                    delivery.setStatus(DeliveryStatus.READY);
+
+                    OrderItem[] orderItems = new OrderItem[itemsPerOrder];
+                    for (int i = 0; i < itemsPerOrder; i++) {
+                        Item item = em.find(Item.class, itemIds.get(random.nextInt(itemIds.size())));
+                        orderItems[i] = OrderItem.createOrderItem(item, item.getPrice(), 1 + random.nextInt(3));
+                    }
+                    em.persist(Order.createOrder(member, delivery, orderItems));
+                }
+                em.flush();
+                em.clear();
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,75 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 10,000건 취소 (회원 2,000 x 주문 5, 주문당 상품 2, 상품 500종)
+ * - singleCancel : 변경 전 - cancelOrder를 주문마다 (주문/주문상품/상품 로딩 + 주문상품마다 재고 UPDATE)
+ * - bulkCancel   : cancelOrders - 주문 1000개당 조회 2번 + UPDATE 2번, 재고는 상품별 합계로 CASE UPDATE 1번
+ * 매 실행 전 주문 상태를 되돌림, 실행마다 JDBC statement 수 출력
+ * 예) gradle jmh -Pjmh.includes=BulkCancelBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class BulkCancelBenchmark {
+
+    BenchmarkContext context;
+    EntityManager em;
+    TransactionTemplate tx;
+    OrderService orderService;
+    List<Long> orderIds;
+    long statementsBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("bulkCancelBench");
+        context.seed(2_000, 5, 2, 500);
+        em = context.getBean(EntityManager.class);
+        tx = context.getBean(TransactionTemplate.class);
+        orderService = context.getBean(OrderService.class);
+        orderIds = tx.execute(s -> em.createQuery("select o.id from Order o where o.member.name like 'member%'", Long.class)
+                .getResultList());
+        System.out.println("orders = " + orderIds.size());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOrders() {
+        tx.executeWithoutResult(s -> {
+            em.createNativeQuery("update orders set status = 'ORDER'").executeUpdate();
+            em.createNativeQuery("update order_summary set status = 'ORDER'").executeUpdate();
+        });
+        em.getEntityManagerFactory().getCache().evictAll();
+        statementsBefore = context.statementCount();
+    }
+
+    @TearDown(Level.Invocation)
+    public void printStatements() {
+        System.out.println(" statements = " + (context.statementCount() - statementsBefore));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleCancel() {
+        orderIds.forEach(orderService::cancelOrder);
+        return orderIds.size();
+    }
+
+    @Benchmark
+    public int bulkCancel() {
+        return orderService.cancelOrders(orderIds).getCancelled();
+    }
+}
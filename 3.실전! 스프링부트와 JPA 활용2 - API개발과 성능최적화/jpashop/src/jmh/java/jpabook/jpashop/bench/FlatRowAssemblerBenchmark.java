@@ -0,0 +1,65 @@
+package jpabook.jpashop.bench;
+
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.repository.order.query.OrderFlatDto;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.*;
+
+/**
+ * ordersV6 플랫 데이터 묶기 비교
+ * - groupingByKey : 기존 구현 (행마다 OrderQueryDto key 생성 + HashMap)
+ * - assembler     : FlatRowAssembler (정렬된 행 1회 순회)
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 참고
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class FlatRowAssemblerBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    static final int ITEMS_PER_ORDER = 4;
+
+    List<OrderFlatDto> flats;
+
+    @Setup
+    public void setUp() {
+        Address address = new Address("서울", "1", "1111");
+        LocalDateTime now = LocalDateTime.now();
+        flats = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long orderId = i / ITEMS_PER_ORDER + 1;
+            flats.add(new OrderFlatDto(orderId, "user" + orderId, now, OrderStatus.ORDER, address,
+                    "item" + (i % 1000), 10000, 1 + i % 3));
+        }
+    }
+
+    @Benchmark
+    public List<OrderQueryDto> groupingByKey() {
+        return flats.stream()
+                .collect(groupingBy(o -> new OrderQueryDto(o.getOrderId(), o.getName(), o.getOrderDate(), o.getOrderStatus(), o.getAddress()),
+                        mapping(o -> new OrderItemQueryDto(o.getOrderId(), o.getItemName(), o.getOrderPrice(), o.getCount()), toList())
+                )).entrySet().stream()
+                .map(e -> new OrderQueryDto(e.getKey().getOrderId(), e.getKey().getName(), e.getKey().getOrderDate(), e.getKey().getOrderStatus(), e.getKey().getAddress(), e.getValue()))
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<OrderQueryDto> assembler() {
+        return OrderQueryRepository.ORDER_FLAT_ASSEMBLER.assemble(flats);
+    }
+}
@@ -0,0 +1,100 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemListDto;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.service.ItemListResult;
+import jpabook.jpashop.service.ItemService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 - 상품 50만 건 (Book/Album/Movie 1/3씩)
+ * - entityAll    : 변경 전 findItems - 전체를 엔티티로 (쿼리 캐시 제외, 하위 타입 컬럼 전부 + 영속성 컨텍스트 등록)
+ * - dtoAll       : 전체를 DTO로 (id, dtype, name, price, stockQuantity)
+ * - dtoPage      : DTO 한 페이지 (20건, 중간 지점 키셋)
+ * - dtoPageAlbum : 위 + dtype 필터 (idx_item_dtype)
+ * 힙 사용량은 -prof gc 의 gc.alloc.rate.norm (B/op)
+ * 예) gradle jmh -Pjmh.includes=ItemListBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ItemListBenchmark {
+
+    static final int PAGE_SIZE = 20;
+
+    @Param({"500000"})
+    int items;
+
+    BenchmarkContext context;
+    EntityManager em;
+    ItemRepository itemRepository;
+    ItemService itemService;
+    TransactionTemplate readOnlyTx;
+    long middleItemId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("itemListBench",
+                "--jpashop.seed.enabled=true",
+                "--jpashop.seed.members=100",
+                "--jpashop.seed.items=" + items,
+                "--jpashop.seed.max-orders-per-member=1",
+                "--jpashop.seed.max-items-per-order=1");
+        em = context.getBean(EntityManager.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        itemService = context.getBean(ItemService.class);
+        TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+        readOnlyTx = new TransactionTemplate(tx.getTransactionManager());
+        readOnlyTx.setReadOnly(true);
+
+        tx.executeWithoutResult(s -> {
+            em.createNativeQuery("update item set dtype = 'A', artist = 'artist', etc = 'etc' where mod(item_id, 3) = 1").executeUpdate();
+            em.createNativeQuery("update item set dtype = 'M', director = 'director', actor = 'actor' where mod(item_id, 3) = 2").executeUpdate();
+            em.createNativeQuery("analyze").executeUpdate();
+        });
+        em.getEntityManagerFactory().getCache().evictAll();
+        middleItemId = readOnlyTx.execute(s -> em.createQuery("select (min(i.id) + max(i.id)) / 2 from Item i", Long.class)
+                .getSingleResult());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int entityAll() {
+        return readOnlyTx.execute(s -> {
+            List<Item> result = em.createQuery("select i from Item i", Item.class).getResultList();
+            em.clear();
+            return result.size();
+        });
+    }
+
+    @Benchmark
+    public int dtoAll() {
+        return readOnlyTx.execute(s -> {
+            List<ItemListDto> result = itemRepository.findItemList(null, null, Integer.MAX_VALUE);
+            return result.size();
+        });
+    }
+
+    @Benchmark
+    public ItemListResult dtoPage() {
+        return itemService.findItemPage(null, middleItemId, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ItemListResult dtoPageAlbum() {
+        return itemService.findItemPage("A", middleItemId, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,112 @@
+package jpabook.jpashop.bench;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.hibernate5.jakarta.Hibernate5JakartaModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jpabook.jpashop.api.ApiJsonSerializers;
+import jpabook.jpashop.domain.*;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.service.query.OrderDto;
+import jpabook.jpashop.service.query.OrderItemDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 DTO 목록 JSON 직렬화 비교 (DB 없이 직렬화만)
+ * - reflective : 기본 BeanSerializer + Hibernate5JakartaModule (변경 전)
+ * - streaming  : ApiJsonSerializers (JsonGenerator 직접 쓰기, SerializedString 필드 이름)
+ * 출력은 버리는 스트림 -> ns/op, gc.alloc.rate.norm (B/op)은 직렬화 비용만 반영
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    int orders;
+
+    static final int ITEMS_PER_ORDER = 3;
+
+    ObjectMapper reflective;
+    ObjectMapper streaming;
+    List<OrderQueryDto> orderQueryDtos;
+    List<OrderDto> orderDtos;
+    OutputStream out = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        reflective = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule(), new Hibernate5JakartaModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+        streaming = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule(), new Hibernate5JakartaModule(), new SimpleModule()
+                        .addSerializer(OrderQueryDto.class, new ApiJsonSerializers.OrderQueryDtoSerializer())
+                        .addSerializer(OrderItemQueryDto.class, new ApiJsonSerializers.OrderItemQueryDtoSerializer())
+                        .addSerializer(OrderDto.class, new ApiJsonSerializers.OrderDtoSerializer())
+                        .addSerializer(OrderItemDto.class, new ApiJsonSerializers.OrderItemDtoSerializer()))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+
+        orderQueryDtos = new ArrayList<>(orders);
+        orderDtos = new ArrayList<>(orders);
+        for (long orderId = 1; orderId <= orders; orderId++) {
+            LocalDateTime orderDate = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(orderId);
+            Address address = new Address("city" + orderId, "street" + orderId, "zip" + orderId);
+
+            List<OrderItemQueryDto> orderItems = new ArrayList<>();
+            OrderItem[] entities = new OrderItem[ITEMS_PER_ORDER];
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                orderItems.add(new OrderItemQueryDto(orderId, "item" + i, 10000 + i, i + 1));
+                Book book = new Book();
+                book.setName("item" + i);
+                entities[i] = OrderItem.createOrderItemWithReservedStock(book, 10000 + i, i + 1);
+            }
+            orderQueryDtos.add(new OrderQueryDto(orderId, "member" + orderId, orderDate, OrderStatus.ORDER, address, orderItems));
+
+            Member member = new Member();
+            member.setName("member" + orderId);
+            Delivery delivery = new Delivery();
+            delivery.setAddress(address);
+            Order order = Order.createOrder(member, delivery, entities);
+            order.setId(orderId);
+            order.setOrderDate(orderDate);
+            orderDtos.add(new OrderDto(order));
+        }
+    }
+
+    @Benchmark
+    public void orderQueryDto_reflective() throws IOException {
+        reflective.writeValue(out, orderQueryDtos);
+    }
+
+    @Benchmark
+    public void orderQueryDto_streaming() throws IOException {
+        streaming.writeValue(out, orderQueryDtos);
+    }
+
+    @Benchmark
+    public void orderDto_reflective() throws IOException {
+        reflective.writeValue(out, orderDtos);
+    }
+
+    @Benchmark
+    public void orderDto_streaming() throws IOException {
+        streaming.writeValue(out, orderDtos);
+    }
+}
@@ -0,0 +1,97 @@
+package jpabook.jpashop.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.api.OrderApiController;
+import jpabook.jpashop.api.OrderSimpleApiController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 조회 API V1~V6, 간단 주문 조회 V1~V4 비교
+ * - 처리량(thrpt), 지연시간 분포(sample -> p0.99)
+ * - 할당량: -prof gc 의 gc.alloc.rate.norm (B/op)
+ * - SQL 개수: 보조 지표 sqlStatements / calls = 호출 1번당 statement 수
+ *
+ * 호출은 OSIV와 같은 조건이 되도록 읽기 전용 트랜잭션 안에서 JSON 직렬화까지 수행
+ * 데이터 크기 -> -p members=1000 -p ordersPerMember=10 ...
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class OrderApiBenchmark {
+
+    @Param({"100"})
+    int members;
+
+    @Param({"10"})
+    int ordersPerMember;
+
+    @Param({"3"})
+    int itemsPerOrder;
+
+    @Param({"100"})
+    int items;
+
+    BenchmarkContext context;
+    OrderApiController orderApi;
+    OrderSimpleApiController orderSimpleApi;
+    ObjectMapper objectMapper;
+    TransactionTemplate readOnlyTx;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SqlCounter {
+        public long sqlStatements;
+        public long calls;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("orderApiBench");
+        context.seed(members, ordersPerMember, itemsPerOrder, items);
+
+        orderApi = context.getBean(OrderApiController.class);
+        orderSimpleApi = context.getBean(OrderSimpleApiController.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark public byte[] ordersV1(SqlCounter c)      { return call(c, () -> orderApi.ordersV1()); }
+    @Benchmark public byte[] ordersV2(SqlCounter c)      { return call(c, () -> orderApi.ordersV2()); }
+    @Benchmark public byte[] ordersV3(SqlCounter c)      { return call(c, () -> orderApi.ordersV3()); }
+    @Benchmark public byte[] ordersV3_page(SqlCounter c) { return call(c, () -> orderApi.ordersV3_page(0, 100)); }
+    @Benchmark public byte[] ordersV4(SqlCounter c)      { return call(c, () -> orderApi.ordersV4()); }
+    @Benchmark public byte[] ordersV5(SqlCounter c)      { return call(c, () -> orderApi.ordersV5(null).getBody()); }
+    @Benchmark public byte[] ordersV6(SqlCounter c)      { return call(c, () -> orderApi.ordersV6()); }
+
+    @Benchmark public byte[] simpleOrderV1(SqlCounter c) { return call(c, () -> orderSimpleApi.orderV1()); }
+    @Benchmark public byte[] simpleOrderV2(SqlCounter c) { return call(c, () -> orderSimpleApi.orderV2()); }
+    @Benchmark public byte[] simpleOrderV3(SqlCounter c) { return call(c, () -> orderSimpleApi.orderV3()); }
+    @Benchmark public byte[] simpleOrderV4(SqlCounter c) { return call(c, () -> orderSimpleApi.orderV4(null).getBody()); }
+
+    private byte[] call(SqlCounter counter, Supplier<Object> api) {
+        long before = context.statementCount();
+        byte[] json = readOnlyTx.execute(s -> {
+            try {
+                return objectMapper.writeValueAsBytes(api.get());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        counter.sqlStatements += context.statementCount() - before;
+        counter.calls++;
+        return json;
+    }
+}
@@ -0,0 +1,133 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.repository.OrderRepository;
+import jpabook.jpashop.service.OrderSearch;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 검색 - 약 100만 주문 (BulkSeeder: 회원 180,000 x 평균 5.6 주문, 5%는 CANCEL)
+ * - cancelFirstPage  : 상태 검색 첫 페이지 -> idx_orders_status 역순 스캔, 20건 읽고 종료
+ * - cancelDeepPage   : 상태 검색 + 키셋 (전체 중간 지점) -> offset 없이 같은 비용
+ * - namePrefix       : 이름 앞부분 일치 -> uk_member_name 범위 스캔 + idx_orders_member
+ * - namePrefixCount  : 위 + count (다음 페이지가 있을 때만 실행)
+ * - nameContains     : 변경 전 방식 like '%...%' -> member 전체 스캔 (비교용)
+ * 시작 시 각 쿼리의 H2 실행계획(EXPLAIN)을 출력 -> 사용 인덱스 확인
+ * 예) gradle jmh -Pjmh.includes=OrderSearchBenchmark -Pjmh.args="-p members=20000"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class OrderSearchBenchmark {
+
+    static final int PAGE_SIZE = 20;
+
+    @Param({"180000"})
+    int members;
+
+    BenchmarkContext context;
+    EntityManager em;
+    OrderRepository orderRepository;
+    TransactionTemplate readOnlyTx;
+    long middleOrderId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("orderSearchBench",
+                "--jpashop.seed.enabled=true",
+                "--jpashop.seed.members=" + members,
+                "--jpashop.seed.items=10000",
+                "--jpashop.seed.max-orders-per-member=20",
+                "--jpashop.seed.max-items-per-order=3");
+        em = context.getBean(EntityManager.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+        readOnlyTx = new TransactionTemplate(tx.getTransactionManager());
+        readOnlyTx.setReadOnly(true);
+
+        tx.executeWithoutResult(s -> {
+            em.createNativeQuery("update orders set status = 'CANCEL' where mod(order_id, 20) = 0").executeUpdate();
+            em.createNativeQuery("analyze").executeUpdate();
+        });
+        middleOrderId = readOnlyTx.execute(s -> em.createQuery("select (min(o.id) + max(o.id)) / 2 from Order o", Long.class)
+                .getSingleResult());
+        long orders = readOnlyTx.execute(s -> em.createQuery("select count(o) from Order o", Long.class).getSingleResult());
+        System.out.println("orders = " + orders);
+
+        explain("status", "select o.order_id from orders o join member m on m.member_id = o.member_id" +
+                " where o.status = 'CANCEL' order by o.order_id desc limit 21");
+        explain("status + keyset", "select o.order_id from orders o join member m on m.member_id = o.member_id" +
+                " where o.status = 'CANCEL' and o.order_id < " + middleOrderId + " order by o.order_id desc limit 21");
+        explain("name prefix", "select o.order_id from orders o join member m on m.member_id = o.member_id" +
+                " where m.name like 'member-1234%' order by o.order_id desc limit 21");
+        explain("name contains", "select o.order_id from orders o join member m on m.member_id = o.member_id" +
+                " where m.name like '%member-1234%' order by o.order_id desc limit 21");
+    }
+
+    private void explain(String title, String sql) {
+        List<?> plan = readOnlyTx.execute(s -> em.createNativeQuery("explain " + sql).getResultList());
+        System.out.println("== " + title + "\n" + plan.get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Order> cancelFirstPage() {
+        return search(() -> orderRepository.findAll(search(OrderStatus.CANCEL, null, null)));
+    }
+
+    @Benchmark
+    public List<Order> cancelDeepPage() {
+        return search(() -> orderRepository.findAll(search(OrderStatus.CANCEL, null, middleOrderId)));
+    }
+
+    @Benchmark
+    public List<Order> namePrefix() {
+        return search(() -> orderRepository.findAll(search(null, "member-1234", null)));
+    }
+
+    @Benchmark
+    public long namePrefixCount() {
+        return readOnlyTx.execute(s -> orderRepository.count(search(null, "member-1234", null)));
+    }
+
+    @Benchmark
+    public List<Order> nameContains() {
+        return search(() -> em.createQuery(
+                        "select o from Order o join fetch o.member m" +
+                                " where m.name like :name order by o.id desc", Order.class)
+                .setParameter("name", "%member-1234%")
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    private List<Order> search(Supplier<List<Order>> query) {
+        return readOnlyTx.execute(s -> {
+            List<Order> result = query.get();
+            em.clear();
+            return result;
+        });
+    }
+
+    private static OrderSearch search(OrderStatus status, String memberName, Long cursor) {
+        OrderSearch search = new OrderSearch();
+        search.setOrderStatus(status);
+        search.setMemberName(memberName);
+        search.setCursor(cursor);
+        search.setSize(PAGE_SIZE);
+        return search;
+    }
+}
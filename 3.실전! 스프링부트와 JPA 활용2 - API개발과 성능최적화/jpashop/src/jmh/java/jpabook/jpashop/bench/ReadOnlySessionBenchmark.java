@@ -0,0 +1,78 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.service.query.OrderDto;
+import jpabook.jpashop.service.query.OrderQueryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 주문 목록 조회 - 쓰기 트랜잭션(변경 전) vs read-only 세션(OrderQueryService)
+ * - readWrite : 일반 트랜잭션 + 힌트 없는 쿼리 -> 엔티티마다 스냅샷 생성, 커밋 시 flush + dirty checking
+ * - readOnly  : OrderQueryService.orderV3_page -> 스냅샷 없음, FlushMode.MANUAL
+ * 지연시간은 avgt/sample, 힙 사용량은 -prof gc 의 gc.alloc.rate.norm (B/op) 로 비교
+ * 예) gradle jmh -Pjmh.includes=ReadOnlySessionBenchmark
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ReadOnlySessionBenchmark {
+
+    @Param({"100"})
+    int members;
+
+    @Param({"10"})
+    int ordersPerMember;
+
+    @Param({"3"})
+    int itemsPerOrder;
+
+    BenchmarkContext context;
+    EntityManager em;
+    TransactionTemplate tx;
+    OrderQueryService orderQueryService;
+    int pageSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("readOnlyBench");
+        context.seed(members, ordersPerMember, itemsPerOrder, 100);
+
+        em = context.getBean(EntityManager.class);
+        tx = context.getBean(TransactionTemplate.class);
+        orderQueryService = context.getBean(OrderQueryService.class);
+        pageSize = members * ordersPerMember;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OrderDto> readWrite() {
+        return tx.execute(s -> em.createQuery(
+                        "select o from Order o" +
+                                " join fetch o.member m" +
+                                " join fetch o.delivery d", Order.class)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(o -> new OrderDto(o))
+                .collect(toList()));
+    }
+
+    @Benchmark
+    public List<OrderDto> readOnly() {
+        return orderQueryService.orderV3_page(0, pageSize);
+    }
+}
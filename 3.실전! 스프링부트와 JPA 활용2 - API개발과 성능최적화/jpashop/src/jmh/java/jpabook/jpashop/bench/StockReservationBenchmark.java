@@ -0,0 +1,88 @@
+package jpabook.jpashop.bench;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.exception.NotEnoughStockException;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 상품 1개에 64명 동시 주문 - 처리량(orders/s)과 초과 판매 여부
+ * - dirtyChecking      : OrderService.order (조회 -> removeStock -> 변경감지)
+ * - stockReservation   : OrderService.orderWithStockReservation (조건부 UPDATE)
+ * 종료 시 "판매 수량 + 남은 재고 = 초기 재고" 인지 출력
+ * (Item @Version 이후 dirtyChecking은 갱신 손실 대신 낙관적 락 충돌로 실패 -> 실패한 주문은 처리량에서 빠짐)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class StockReservationBenchmark {
+
+    static final int INITIAL_STOCK = 1_000_000_000;
+
+    BenchmarkContext context;
+    OrderService orderService;
+    EntityManager em;
+    TransactionTemplate tx;
+    Long memberId;
+    Long itemId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("stockBench");
+        orderService = context.getBean(OrderService.class);
+        em = context.getBean(EntityManager.class);
+        tx = context.getBean(TransactionTemplate.class);
+
+        tx.executeWithoutResult(s -> {
+            Member member = new Member();
+            member.setName("buyer");
+            member.setAddress(new Address("서울", "1", "1111"));
+            em.persist(member);
+
+            Book book = new Book();
+            book.setName("HOT BOOK");
+            book.setPrice(10000);
+            book.setStockQuantity(INITIAL_STOCK);
+            em.persist(book);
+
+            memberId = member.getId();
+            itemId = book.getId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Long sold = tx.execute(s -> em.createQuery("select coalesce(sum(oi.count), 0) from OrderItem oi where oi.item.id = :id", Long.class)
+                .setParameter("id", itemId).getSingleResult());
+        Integer stock = tx.execute(s -> em.createQuery("select i.stockQuantity from Item i where i.id = :id", Integer.class)
+                .setParameter("id", itemId).getSingleResult());
+        long oversold = sold + stock - INITIAL_STOCK;
+        System.out.printf("%nsold=%d, stock=%d, lost stock updates=%d%n", sold, stock, oversold);
+        context.close();
+    }
+
+    @Benchmark
+    public Long dirtyChecking() {
+        try {
+            return orderService.order(memberId, itemId, 1);
+        } catch (NotEnoughStockException | ObjectOptimisticLockingFailureException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Long stockReservation() {
+        return orderService.orderWithStockReservation(memberId, itemId, 1);
+    }
+}
@@ -0,0 +1,239 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.service.query.OrderDto;
+import jpabook.jpashop.service.query.OrderItemDto;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 주문/회원 응답 DTO 전용 직렬화
+ * 기본 BeanSerializer(리플렉션 getter 호출 + 프로퍼티마다 serializer 조회, Hibernate 모듈의 프록시 검사) 대신
+ * 응답 스트림의 JsonGenerator에 필드를 직접 씀
+ * - 필드 이름은 미리 인코딩한 SerializedString 사용
+ * - 중간 컬렉션/Map 없이 DTO -> JSON
+ * 출력 JSON은 기본 직렬화와 같음 (필드 순서, null, 날짜 ISO 형식)
+ */
+@JsonComponent
+public class ApiJsonSerializers {
+
+    private static final SerializedString ORDER_ID = new SerializedString("orderId");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString ORDER_DATE = new SerializedString("orderDate");
+    private static final SerializedString ORDER_STATUS = new SerializedString("orderStatus");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString STREET = new SerializedString("street");
+    private static final SerializedString ZIPCODE = new SerializedString("zipcode");
+    private static final SerializedString TOTAL_PRICE = new SerializedString("totalPrice");
+    private static final SerializedString ITEM_COUNT = new SerializedString("itemCount");
+    private static final SerializedString ORDER_ITEMS = new SerializedString("orderItems");
+    private static final SerializedString ITEM_NAME = new SerializedString("itemName");
+    private static final SerializedString ORDER_PRICE = new SerializedString("orderPrice");
+    private static final SerializedString COUNT = new SerializedString("count");
+
+    // yyyy-MM-ddTHH:mm:ss.SSSSSSSSS
+    private static final ThreadLocal<char[]> DATE_TIME_BUFFER = ThreadLocal.withInitial(() -> new char[29]);
+
+    public static class OrderQueryDtoSerializer extends StdSerializer<OrderQueryDto> {
+
+        public OrderQueryDtoSerializer() {
+            super(OrderQueryDto.class);
+        }
+
+        @Override
+        public void serialize(OrderQueryDto order, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(order);
+            writeOrderHeader(gen, provider, order.getOrderId(), order.getName(), order.getOrderDate(),
+                    order.getOrderStatus(), order.getAddress());
+
+            gen.writeFieldName(ORDER_ITEMS);
+            List<OrderItemQueryDto> orderItems = order.getOrderItems();
+            if (orderItems == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(orderItems, orderItems.size());
+                for (OrderItemQueryDto orderItem : orderItems) {
+                    writeOrderItem(gen, orderItem.getItemName(), orderItem.getOrderPrice(), orderItem.getCount());
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /* orderId는 @JsonIgnore -> 쓰지 않음 */
+    public static class OrderItemQueryDtoSerializer extends StdSerializer<OrderItemQueryDto> {
+
+        public OrderItemQueryDtoSerializer() {
+            super(OrderItemQueryDto.class);
+        }
+
+        @Override
+        public void serialize(OrderItemQueryDto orderItem, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeOrderItem(gen, orderItem.getItemName(), orderItem.getOrderPrice(), orderItem.getCount());
+        }
+    }
+
+    public static class OrderDtoSerializer extends StdSerializer<OrderDto> {
+
+        public OrderDtoSerializer() {
+            super(OrderDto.class);
+        }
+
+        @Override
+        public void serialize(OrderDto order, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(order);
+            writeOrderHeader(gen, provider, order.getOrderId(), order.getName(), order.getOrderDate(),
+                    order.getOrderStatus(), order.getAddress());
+            gen.writeFieldName(TOTAL_PRICE);
+            gen.writeNumber(order.getTotalPrice());
+            gen.writeFieldName(ITEM_COUNT);
+            gen.writeNumber(order.getItemCount());
+
+            gen.writeFieldName(ORDER_ITEMS);
+            List<OrderItemDto> orderItems = order.getOrderItems();
+            if (orderItems == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(orderItems, orderItems.size());
+                for (OrderItemDto orderItem : orderItems) {
+                    writeOrderItem(gen, orderItem.getItemName(), orderItem.getOrderPrice(), orderItem.getCount());
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    public static class OrderItemDtoSerializer extends StdSerializer<OrderItemDto> {
+
+        public OrderItemDtoSerializer() {
+            super(OrderItemDto.class);
+        }
+
+        @Override
+        public void serialize(OrderItemDto orderItem, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeOrderItem(gen, orderItem.getItemName(), orderItem.getOrderPrice(), orderItem.getCount());
+        }
+    }
+
+    static class MemberDtoSerializer extends StdSerializer<MemberApiController.MemberDto> {
+
+        MemberDtoSerializer() {
+            super(MemberApiController.MemberDto.class);
+        }
+
+        @Override
+        public void serialize(MemberApiController.MemberDto member, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(member);
+            writeString(gen, NAME, member.getName());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeOrderHeader(JsonGenerator gen, SerializerProvider provider, Long orderId, String name,
+                                         LocalDateTime orderDate, Enum<?> orderStatus, Address address) throws IOException {
+        gen.writeFieldName(ORDER_ID);
+        if (orderId == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(orderId);
+        }
+        writeString(gen, NAME, name);
+
+        gen.writeFieldName(ORDER_DATE);
+        if (orderDate == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(orderDate, gen);     // 숫자 배열 형식은 JavaTimeModule에 맡김
+        } else {
+            writeIsoDateTime(gen, orderDate);
+        }
+
+        writeString(gen, ORDER_STATUS, orderStatus == null ? null : orderStatus.name());
+
+        gen.writeFieldName(ADDRESS);
+        if (address == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject(address);
+            writeString(gen, CITY, address.getCity());
+            writeString(gen, STREET, address.getStreet());
+            writeString(gen, ZIPCODE, address.getZipcode());
+            gen.writeEndObject();
+        }
+    }
+
+    /* ISO_LOCAL_DATE_TIME과 같은 형식(초는 항상, 소수점 이하는 뒤의 0 제거)을 스레드별 버퍼에 써서 String 생성 없이 출력 */
+    private static void writeIsoDateTime(JsonGenerator gen, LocalDateTime dateTime) throws IOException {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            return;
+        }
+        char[] buf = DATE_TIME_BUFFER.get();
+        put4(buf, 0, year);
+        buf[4] = '-';
+        put2(buf, 5, dateTime.getMonthValue());
+        buf[7] = '-';
+        put2(buf, 8, dateTime.getDayOfMonth());
+        buf[10] = 'T';
+        put2(buf, 11, dateTime.getHour());
+        buf[13] = ':';
+        put2(buf, 14, dateTime.getMinute());
+        buf[16] = ':';
+        put2(buf, 17, dateTime.getSecond());
+        int len = 19;
+
+        int nano = dateTime.getNano();
+        if (nano > 0) {
+            buf[len++] = '.';
+            for (int divisor = 100_000_000; nano > 0; divisor /= 10) {
+                buf[len++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+            }
+        }
+        gen.writeString(buf, 0, len);
+    }
+
+    private static void put4(char[] buf, int pos, int value) {
+        put2(buf, pos, value / 100);
+        put2(buf, pos + 2, value % 100);
+    }
+
+    private static void put2(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void writeOrderItem(JsonGenerator gen, String itemName, int orderPrice, int count) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ITEM_NAME, itemName);
+        gen.writeFieldName(ORDER_PRICE);
+        gen.writeNumber(orderPrice);
+        gen.writeFieldName(COUNT);
+        gen.writeNumber(count);
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString field, String value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.monitoring.QueryBudget;
+import jpabook.jpashop.service.CategoryNode;
+import jpabook.jpashop.service.CategoryService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class CategoryApiController {
+
+    private final CategoryService categoryService;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /* 카테고리 트리 - 메모리 캐시에서 바로 응답 (최초 로딩 때만 쿼리 1번) */
+    @QueryBudget(1)
+    @GetMapping("/api/categories")
+    public List<CategoryDto> categories() {
+        return categoryService.getTree().getRoots().stream()
+                .map(CategoryDto::new)
+                .toList();
+    }
+
+    /* 카테고리(하위 포함)의 상품 - 쿼리 1번 */
+    @QueryBudget(1)
+    @GetMapping("/api/categories/{id}/items")
+    public List<CategoryItemDto> items(@PathVariable("id") Long id,
+                                       @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                       @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return categoryService.findItemsUnder(id, Math.max(offset, 0), pageSize).stream()
+                .map(CategoryItemDto::new)
+                .toList();
+    }
+
+    @PostMapping("/api/categories")
+    public CreateCategoryResponse create(@RequestBody CreateCategoryRequest request) {
+        try {
+            return new CreateCategoryResponse(categoryService.create(request.getName(), request.getParentId()));
+        } catch (IllegalArgumentException e) {   // 없는 상위 카테고리
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    @PutMapping("/api/categories/{id}/parent")
+    public void move(@PathVariable("id") Long id, @RequestBody MoveCategoryRequest request) {
+        try {
+            categoryService.move(id, request.getParentId());
+        } catch (IllegalArgumentException e) {   // 없는 상위 카테고리
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    @Data
+    static class CategoryDto {
+        private Long id;
+        private String name;
+        private int depth;
+        private List<CategoryDto> children;
+
+        CategoryDto(CategoryNode node) {
+            this.id = node.getId();
+            this.name = node.getName();
+            this.depth = node.getDepth();
+            this.children = node.getChildren().stream()
+                    .map(CategoryDto::new)
+                    .toList();
+        }
+    }
+
+    @Data
+    static class CategoryItemDto {
+        private Long itemId;
+        private String name;
+        private int price;
+
+        CategoryItemDto(Item item) {
+            this.itemId = item.getId();
+            this.name = item.getName();
+            this.price = item.getPrice();
+        }
+    }
+
+    @Data
+    static class CreateCategoryRequest {
+        private String name;
+        private Long parentId;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class CreateCategoryResponse {
+        private Long id;
+    }
+
+    @Data
+    static class MoveCategoryRequest {
+        private Long parentId;
+    }
+}
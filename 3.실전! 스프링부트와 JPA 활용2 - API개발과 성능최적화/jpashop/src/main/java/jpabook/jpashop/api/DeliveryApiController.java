@@ -0,0 +1,44 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.service.DeliverySearch;
+import jpabook.jpashop.service.DeliveryService;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class DeliveryApiController {
+
+    private final DeliveryService deliveryService;
+
+    /* 배송 완료 - id 목록 (1000개씩 UPDATE), 목록이 없으면 400 */
+    @PostMapping("/api/deliveries/complete")
+    public DeliveryService.BatchResult complete(@RequestBody CompleteDeliveriesRequest request) {
+        if (request.getDeliveryIds() == null || request.getDeliveryIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "배송 id(deliveryIds)를 지정해 주세요.");
+        }
+        return deliveryService.complete(request.getDeliveryIds());
+    }
+
+    /* 배송 완료 - 조건 (orderedBefore, city 중 하나 이상 필수) */
+    @PostMapping("/api/deliveries/complete-matching")
+    public DeliveryService.BatchResult completeMatching(@RequestBody DeliverySearch search) {
+        try {
+            return deliveryService.completeMatching(search);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    @Data
+    static class CompleteDeliveriesRequest {
+        private List<Long> deliveryIds;
+    }
+}
@@ -0,0 +1,34 @@
+package jpabook.jpashop.api;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 조건부 GET (If-None-Match -> 304) 처리용
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /* 변경 토큰 -> 강한(strong) ETag "..." */
+    static String of(String changeToken) {
+        return "\"" + changeToken + "\"";
+    }
+
+    /* If-None-Match: "a", W/"b" 또는 * 중 하나라도 같으면 true (비교는 weak 비교) */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.monitoring.QueryBudget;
+import jpabook.jpashop.service.ItemBulkRow;
+import jpabook.jpashop.service.ItemListResult;
+import jpabook.jpashop.service.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ItemApiController {
+
+    private final ItemService itemService;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /* 상품 목록 - DTO 조회 1번 (dtype: B/A/M, cursor = 이전 페이지 마지막 id) */
+    @QueryBudget(1)
+    @GetMapping("/api/v1/items")
+    public ItemListResult items(
+            @RequestParam(value = "dtype", required = false) String dtype,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        try {
+            return itemService.findItemPage(dtype, cursor, pageSize);
+        } catch (IllegalArgumentException e) {   // 지원하지 않는 dtype
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 가격/재고 일괄 변경 (JSON 배열)
+     * [{"itemId": 1, "price": 12000, "stockDelta": 0, "version": 3}, ...]
+     * 변경하지 못한 행은 conflicts에 원인과 함께 반환 (나머지 행은 반영)
+     */
+    @PostMapping(value = "/api/v1/items/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ItemService.BulkUpdateResult bulkUpdate(@RequestBody List<ItemBulkRow> rows) {
+        return itemService.bulkUpdate(rows);
+    }
+
+    /* 가격/재고 일괄 변경 (CSV, 형식은 ItemBulkCsv) */
+    @PostMapping(value = "/api/v1/items/bulk", consumes = "text/csv")
+    public ItemService.BulkUpdateResult bulkUpdateCsv(@RequestBody String csv) {
+        List<ItemBulkRow> rows;
+        try {
+            rows = ItemBulkCsv.parse(csv);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        return itemService.bulkUpdate(rows);
+    }
+}
@@ -0,0 +1,57 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.service.ItemBulkRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 일괄 변경 CSV
+ * 첫 줄은 헤더 (itemId,price,stockDelta,version), 빈 칸 -> price/version은 null, stockDelta는 0
+ * 예)
+ * itemId,price,stockDelta,version
+ * 1,12000,,3
+ * 2,,50,
+ */
+final class ItemBulkCsv {
+
+    static final String HEADER = "itemId,price,stockDelta,version";
+
+    private ItemBulkCsv() {
+    }
+
+    static List<ItemBulkRow> parse(String csv) {
+        String[] lines = csv.split("\r?\n");
+        if (lines.length == 0 || !lines[0].trim().equalsIgnoreCase(HEADER)) {
+            throw new IllegalArgumentException("첫 줄은 헤더(" + HEADER + ")여야 합니다.");
+        }
+        List<ItemBulkRow> rows = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(",", -1);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException((i + 1) + "행: 컬럼 수가 4개가 아닙니다.");
+            }
+            try {
+                Long itemId = parseLong(fields[0]);
+                Long price = parseLong(fields[1]);
+                Long stockDelta = parseLong(fields[2]);
+                rows.add(new ItemBulkRow(itemId,
+                        price == null ? null : Math.toIntExact(price),
+                        stockDelta == null ? 0 : Math.toIntExact(stockDelta),
+                        parseLong(fields[3])));
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw new IllegalArgumentException((i + 1) + "행: 숫자 형식이 아닙니다. " + line, e);
+            }
+        }
+        return rows;
+    }
+
+    private static Long parseLong(String field) {
+        String value = field.trim();
+        return value.isEmpty() ? null : Long.valueOf(value);
+    }
+}
@@ -2,23 +2,31 @@ package jpabook.jpashop.api;
 
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderItem;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.monitoring.QueryBudget;
 import jpabook.jpashop.repository.OrderRepository;
+import jpabook.jpashop.repository.order.query.MemberSalesDto;
 import jpabook.jpashop.repository.order.query.OrderFlatDto;
-import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
 import jpabook.jpashop.repository.order.query.OrderQueryDto;
 import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import jpabook.jpashop.service.OrderRequest;
 import jpabook.jpashop.service.OrderSearch;
+import jpabook.jpashop.service.OrderService;
+import jpabook.jpashop.service.query.OrderCursorResult;
 import jpabook.jpashop.service.query.OrderDto;
 import jpabook.jpashop.service.query.OrderQueryService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
-import static java.util.stream.Collectors.*;
-
 @RestController
 @RequiredArgsConstructor
 public class OrderApiController {
@@ -27,6 +35,10 @@ public class OrderApiController {
     private final OrderQueryRepository orderQueryRepository;
 
     private final OrderQueryService orderQueryService;
+    private final OrderService orderService;
+
+    // Order.orderItems @BatchSize와 같은 값 -> 한 페이지 컬렉션을 IN 쿼리 1번으로 조회
+    private static final int MAX_PAGE_SIZE = 100;
 
     /* 주문 조회 - 엔티티 직접노출(지양) */
     @GetMapping("/api/v1/orders")
@@ -50,11 +62,7 @@ public class OrderApiController {
     /* 주문 조회 - 엔티티를 DTO로 변환 - 페치 조인 최적화 */
     @GetMapping("/api/v3/orders")
     public List<OrderDto> ordersV3() {
-        List<Order> orders = orderRepository.findAllWithItem();
-        List<OrderDto> collect = orders.stream()
-                .map(o -> new OrderDto(o))
-                .collect(toList());
-        return collect;
+        return orderQueryService.orderV3();
     }
 
     /* 주문 조회 - 엔티티를 DTO로 변환 - 페이징과 한계 돌파 */
@@ -62,11 +70,18 @@ public class OrderApiController {
     public List<OrderDto> ordersV3_page(
             @RequestParam(value = "offset", defaultValue = "0") int offset,
             @RequestParam(value = "limit", defaultValue = "100") int limit) {
-        List<Order> orders = orderRepository.findAllWithMemberDelivery();
-        List<OrderDto> collect = orders.stream()
-                .map(o -> new OrderDto(o))
-                .collect(toList());
-        return collect;
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return orderQueryService.orderV3_page(Math.max(offset, 0), pageSize);
+    }
+
+    /* 주문 조회 - 엔티티를 DTO로 변환 - 키셋(커서) 페이징
+       cursor = 이전 페이지의 nextCursor (마지막 order_id), 첫 페이지는 생략 */
+    @GetMapping("/api/v3.2/orders")
+    public OrderCursorResult ordersV3_cursor(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return orderQueryService.orderV3_cursor(cursor, pageSize);
     }
 
     /* 주문 조회 - JPA에서 DTO 직접조회 */
@@ -75,21 +90,73 @@ public class OrderApiController {
         return orderQueryRepository.findOrderQueryDtos();
     }
 
-    /* 주문 조회 - JPA에서 DTO 직접조회(컬렉션 조회 최적화) */
+    /* 주문 조회 - JPA에서 DTO 직접조회(컬렉션 조회 최적화)
+       변경 토큰(change_seq 인덱스 조회 1번)을 ETag로 사용 -> If-None-Match가 같으면 본 쿼리, 직렬화 없이 304
+       토큰을 먼저 읽으므로 그 사이 변경이 생겨도 다음 요청에서 200으로 다시 받음 */
+    @QueryBudget(3)
     @GetMapping("/api/v5/orders")
-    public List<OrderQueryDto> ordersV5() {
-        return orderQueryRepository.findAllByDto_optimization();
+    public ResponseEntity<List<OrderQueryDto>> ordersV5(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.of(orderQueryRepository.findChangeToken());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(orderQueryRepository.findAllByDto_optimization());
     }
 
-    /* 주문 조회 - JPA에서 DTO 직접조회(플랫 데이터 최적화) */
+    /* 주문 조회 - JPA에서 DTO 직접조회(플랫 데이터 최적화)
+       o.id 순으로 정렬된 행을 한 번 순회하며 묶음 -> groupingBy(임시 key 객체 + HashMap) 제거, 정렬 순서 유지 */
+    @QueryBudget(1)
     @GetMapping("/api/v6/orders")
     public List<OrderQueryDto> ordersV6() {
         List<OrderFlatDto> flats = orderQueryRepository.findAllByDto_flat();
-        return flats.stream()
-                .collect(groupingBy(o -> new OrderQueryDto(o.getOrderId(), o.getName(), o.getOrderDate(), o.getOrderStatus(), o.getAddress()),
-                         mapping(o -> new OrderItemQueryDto(o.getOrderId(), o.getItemName(), o.getOrderPrice(), o.getCount()), toList())
-                )).entrySet().stream()
-                .map(e -> new OrderQueryDto(e.getKey().getOrderId(), e.getKey().getName(), e.getKey().getOrderDate(), e.getKey().getOrderStatus(), e.getKey().getAddress(), e.getValue()))
-                .collect(toList());
+        return OrderQueryRepository.ORDER_FLAT_ASSEMBLER.assemble(flats);
+    }
+
+    /* 회원별 주문 리포트 - 주문에 저장된 합계로 집계 (주문상품 조회 없음) */
+    @QueryBudget(1)
+    @GetMapping("/api/reports/member-sales")
+    public List<MemberSalesDto> memberSales(
+            @RequestParam(value = "status", defaultValue = "ORDER") OrderStatus status) {
+        return orderQueryRepository.findMemberSales(status);
+    }
+
+    /* 대량 주문 - 요청 1번(트랜잭션 1번)에 주문 여러 건 */
+    @PostMapping("/api/v1/orders/batch")
+    public BatchOrderResponse orderBatch(@RequestBody BatchOrderRequest request) {
+        List<Long> orderIds = orderService.orderBatch(request.getOrders());
+        return new BatchOrderResponse(orderIds.size(), orderIds);
+    }
+
+    /* 주문 일괄 취소 - 배송 완료/이미 취소된 주문은 건너뜀 */
+    @PostMapping("/api/v1/orders/cancel")
+    public OrderService.BulkCancelResult cancelOrders(@RequestBody BulkCancelRequest request) {
+        return orderService.cancelOrders(request.getOrderIds());
+    }
+
+    /* 회원의 배송 전 주문 전체 취소 */
+    @PostMapping("/api/v1/members/{memberId}/orders/cancel")
+    public OrderService.BulkCancelResult cancelUnshippedOrders(@PathVariable("memberId") Long memberId) {
+        return orderService.cancelUnshippedOrders(memberId);
+    }
+
+    @Data
+    static class BulkCancelRequest {
+        private List<Long> orderIds = new ArrayList<>();
+    }
+
+    @Data
+    static class BatchOrderRequest {
+        private List<OrderRequest> orders = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class BatchOrderResponse {
+        private int count;
+        private List<Long> orderIds;
     }
 }
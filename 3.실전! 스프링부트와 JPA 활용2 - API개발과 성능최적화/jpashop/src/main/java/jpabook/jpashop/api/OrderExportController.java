@@ -0,0 +1,24 @@
+package jpabook.jpashop.api;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jpabook.jpashop.service.query.OrderExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /* 주문 전체 export - 주문 1건당 JSON 1줄(NDJSON), 완성되는 대로 응답에 바로 씀 */
+    @GetMapping("/api/export/orders.ndjson")
+    public void exportOrders(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        orderExportService.exportOrders(response.getOutputStream());
+    }
+}
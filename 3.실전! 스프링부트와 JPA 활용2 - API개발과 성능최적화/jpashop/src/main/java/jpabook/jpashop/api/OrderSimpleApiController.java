@@ -3,13 +3,20 @@ package jpabook.jpashop.api;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.monitoring.QueryBudget;
 import jpabook.jpashop.repository.OrderRepository;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryRepository;
 import jpabook.jpashop.service.OrderSearch;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
@@ -28,6 +35,7 @@ public class OrderSimpleApiController {
 
     private final OrderRepository orderRepository;
     private final OrderSimpleQueryRepository orderSimpleQueryRepository;
+    private final OrderQueryRepository orderQueryRepository;
 
     /* 주문조회 - 엔티티를 직접노출 */
     @GetMapping("/api/v1/simple-orders")
@@ -53,6 +61,7 @@ public class OrderSimpleApiController {
     }
 
     /* 주문조회 - 엔티티를 DTO로 변환 - 페치 조인 최적화 */
+    @QueryBudget(1)
     @GetMapping("/api/v3/simple-orders")
     public List<SimpleOrderDto> orderV3() {
         List<Order> orders = orderRepository.findAllWithMemberDelivery();
@@ -62,10 +71,20 @@ public class OrderSimpleApiController {
                 .collect(Collectors.toList());
     }
 
-    /* 주문조회 - JPA에서 DTO로 바로 조회 */
+    /* 주문조회 - JPA에서 DTO로 바로 조회
+       변경 토큰(change_seq 인덱스 조회 1번)을 ETag로 사용 -> If-None-Match가 같으면 304 (토큰 쿼리 1번만 실행) */
+    @QueryBudget(2)
     @GetMapping("/api/v4/simple-orders")
-    public List<OrderSimpleQueryDto> orderV4() {
-        return  orderSimpleQueryRepository.findOrderDtos();
+    public ResponseEntity<List<OrderSimpleQueryDto>> orderV4(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.of(orderQueryRepository.findChangeToken());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(orderSimpleQueryRepository.findOrderDtos());
     }
 
     @Data
@@ -75,6 +94,8 @@ public class OrderSimpleApiController {
         private LocalDateTime orderDate;
         private OrderStatus orderStatus;
         private Address address;
+        private int totalPrice;     // 주문에 저장된 합계 -> orderItems 로딩 없음
+        private int itemCount;
 
         public SimpleOrderDto(Order order) {
             orderId = order.getId();
@@ -82,6 +103,8 @@ public class OrderSimpleApiController {
             orderDate = order.getOrderDate();
             orderStatus = order.getStatus();
             address = order.getDelivery().getAddress(); // LAZY 초기화
+            totalPrice = order.getTotalPrice();
+            itemCount = order.getItemCount();
         }
     }
 }
@@ -0,0 +1,49 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.monitoring.QueryBudget;
+import jpabook.jpashop.repository.order.summary.OrderSummaryDto;
+import jpabook.jpashop.repository.order.summary.OrderSummaryRepository;
+import jpabook.jpashop.service.OrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class OrderSummaryApiController {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryService orderSummaryService;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /* 주문 조회 - 주문 요약 테이블 단건 조회 (조인 없음, 키셋 페이징)
+       cursor = 이전 페이지 마지막 orderId */
+    @QueryBudget(1)
+    @GetMapping("/api/v7/orders")
+    public List<OrderSummaryDto> ordersV7(
+            @RequestParam(value = "status", required = false) OrderStatus status,
+            @RequestParam(value = "memberId", required = false) Long memberId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return orderSummaryRepository.findSummaries(status, memberId, cursor, pageSize);
+    }
+
+    /* 주문 요약 전체 재생성 (backfill) */
+    @PostMapping("/api/order-summaries/rebuild")
+    public long rebuild() {
+        return orderSummaryService.rebuild();
+    }
+
+    /* 주문 요약 정합성 검사 */
+    @GetMapping("/api/order-summaries/check")
+    public OrderSummaryService.CheckResult check() {
+        return orderSummaryService.check();
+    }
+}
@@ -12,6 +12,10 @@ public class BookForm {
     private int price;
     private int stockQuantity;
 
+    // 수정 화면을 열 때의 값 -> 그 사이 다른 변경과 충돌 확인, 재고는 차이만큼만 반영
+    private int originalPrice;
+    private int originalStockQuantity;
+
     private String author;
     private String isbn;
 }
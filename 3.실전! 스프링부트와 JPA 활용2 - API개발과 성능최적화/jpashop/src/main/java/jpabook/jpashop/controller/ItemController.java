@@ -1,17 +1,22 @@
 package jpabook.jpashop.controller;
 
+import jpabook.jpashop.domain.exception.ItemConflictException;
+import jpabook.jpashop.domain.exception.NotEnoughStockException;
 import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.service.ItemEdit;
+import jpabook.jpashop.service.ItemListResult;
 import jpabook.jpashop.service.ItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
 
 @Controller
 @RequiredArgsConstructor
@@ -38,10 +43,22 @@ public class ItemController {
         return "redirect:/";
     }
 
+    private static final int PAGE_SIZE = 20;
+
+    /* 상품 목록 - 화면 컬럼만 DTO로 조회, item_id 키셋 페이징 */
     @GetMapping("/items")
-    public String list(Model model) {
-        List<Item> items = itemService.findItems();
-        model.addAttribute("items", items);
+    public String list(@RequestParam(value = "dtype", required = false) String dtype,
+                       @RequestParam(value = "cursor", required = false) Long cursor,
+                       Model model) {
+        ItemListResult result;
+        try {
+            result = itemService.findItemPage(dtype, cursor, PAGE_SIZE);
+        } catch (IllegalArgumentException e) {   // 지원하지 않는 dtype
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        model.addAttribute("items", result.getItems());
+        model.addAttribute("result", result);
+        model.addAttribute("dtype", dtype);
         return "items/itemList";
     }
 
@@ -54,6 +71,8 @@ public class ItemController {
         form.setName(item.getName());
         form.setPrice(item.getPrice());
         form.setStockQuantity(item.getStockQuantity());
+        form.setOriginalPrice(item.getPrice());
+        form.setOriginalStockQuantity(item.getStockQuantity());
         form.setAuthor(item.getAuthor());
         form.setIsbn(item.getIsbn());
 
@@ -62,7 +81,7 @@ public class ItemController {
     }
 
     @PostMapping("/items/{itemId}/edit")
-    public String updateItem( @PathVariable("itemId") Long itemId, @ModelAttribute("form")BookForm form) {
+    public String updateItem( @PathVariable("itemId") Long itemId, @ModelAttribute("form")BookForm form, Model model) {
 
         // 사용자 권한을 확인하고 하는 것을 권장
 //        Book book = new Book();
@@ -74,7 +93,19 @@ public class ItemController {
 //        book.setIsbn(form.getIsbn());
 //        itemService.saveItem(book);
 
-        itemService.updateItem(itemId, form.getPrice(), form.getStockQuantity());
+        try {
+            itemService.updateItem(itemId, new ItemEdit(form.getOriginalPrice(), form.getPrice(),
+                    form.getOriginalStockQuantity(), form.getStockQuantity()));
+        } catch (ItemConflictException | NotEnoughStockException e) {
+            // 기준값을 현재 값으로 바꿔서 다시 보여줌 -> 확인 후 다시 저장
+            // 재고는 입력한 증감을 현재 재고 위에 다시 계산 (그대로 두면 그 사이 팔린 재고가 되살아남)
+            Item current = itemService.findOne(itemId);
+            form.setStockQuantity(current.getStockQuantity() + (form.getStockQuantity() - form.getOriginalStockQuantity()));
+            form.setOriginalPrice(current.getPrice());
+            form.setOriginalStockQuantity(current.getStockQuantity());
+            model.addAttribute("error", e.getMessage());
+            return "items/updateItemForm";
+        }
 
         return "redirect:/items";
     }
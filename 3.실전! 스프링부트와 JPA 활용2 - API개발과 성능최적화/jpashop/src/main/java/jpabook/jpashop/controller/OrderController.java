@@ -1,11 +1,11 @@
 package jpabook.jpashop.controller;
 
 import jpabook.jpashop.domain.Member;
-import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.service.ItemService;
 import jpabook.jpashop.service.MemberService;
 import jpabook.jpashop.service.OrderSearch;
+import jpabook.jpashop.service.OrderSearchResult;
 import jpabook.jpashop.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
@@ -39,16 +39,24 @@ public class OrderController {
                          @RequestParam("itemId") Long itemId,
                          @RequestParam("count") int count) {
 
-        orderService.order(memberId, itemId, count);
+        orderService.orderWithStockReservation(memberId, itemId, count);
 
         return "redirect:/orders";
     }
 
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping("/orders")
     public String listForm(@ModelAttribute("orderSearch")OrderSearch orderSearch, Model model) {
 
-        List<Order> orders = orderService.findOrder(orderSearch);
-        model.addAttribute("orders", orders);
+        if (orderSearch.getSize() == null) {
+            orderSearch.setSize(PAGE_SIZE);
+        }
+        orderSearch.setWithCount(orderSearch.getCursor() == null);  // 전체 건수는 첫 페이지에서만
+
+        OrderSearchResult result = orderService.searchOrders(orderSearch);
+        model.addAttribute("orders", result.getOrders());
+        model.addAttribute("result", result);
 
         return "order/orderList";
     }
@@ -2,8 +2,11 @@ package jpabook.jpashop.domain;
 
 import jakarta.persistence.*;
 import jpabook.jpashop.domain.item.Item;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,6 +14,8 @@ import java.util.List;
 import static jakarta.persistence.FetchType.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_category_path", columnList = "path"))  // 하위 카테고리 전체 = path like '/1/5/%' 범위 검색
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @Getter @Setter
 public class Category {
 
@@ -20,6 +25,13 @@ public class Category {
 
     private String name;
 
+    // 경로(materialized path) - 루트부터 자기 자신까지의 id. 예) /1/5/12/
+    @Setter(AccessLevel.NONE)
+    private String path;
+
+    @Setter(AccessLevel.NONE)
+    private int depth;     // 루트 = 0
+
     // 실무에서는 거의 안씀. 예시니까 참고
     @ManyToMany
     @JoinTable(name = "category_item",   // 중간테이블이 있어야함.
@@ -39,4 +51,32 @@ public class Category {
         child.setParent(this);
     }
 
+    //== 연관관계 메서드 ==//
+    public void addItem(Item item) {
+        this.items.add(item);
+        item.getCategories().add(this);
+    }
+
+    //== 경로 ==//
+
+    /**
+     * id가 정해진 뒤(persist 이후) 부모 기준으로 경로 지정
+     */
+    public void assignPath() {
+        this.path = (parent == null ? "/" : parent.getPath()) + id + "/";
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+    }
+
+    /**
+     * 하위 트리 이동 - 경로 앞부분(oldPrefix)을 newPrefix로 교체
+     */
+    public void replacePathPrefix(String oldPrefix, String newPrefix, int depthDelta) {
+        this.path = newPrefix + path.substring(oldPrefix.length());
+        this.depth += depthDelta;
+    }
+
+    public boolean isAncestorOf(Category other) {
+        return other.getPath().startsWith(path);
+    }
+
 }
@@ -0,0 +1,16 @@
+package jpabook.jpashop.domain;
+
+/**
+ * 변경 순번 컬럼 (change_seq) - 행을 insert/update 할 때마다 DB가 시퀀스 다음 값으로 채움 (H2 ON UPDATE)
+ * 애플리케이션을 거치지 않은 변경(벌크/직접 SQL, 다른 인스턴스)도 반영 -> 인덱스로 max(change_seq)만 읽어 변경 여부 확인
+ * 시퀀스는 테이블보다 먼저 만들어야 해서 db/change-seq.sql 로 생성 (schema-generation create-source)
+ */
+public final class ChangeSequence {
+
+    public static final String COLUMN = "change_seq";
+    public static final String COLUMN_DEFINITION =
+            "bigint default next value for change_seq on update next value for change_seq";
+
+    private ChangeSequence() {
+    }
+}
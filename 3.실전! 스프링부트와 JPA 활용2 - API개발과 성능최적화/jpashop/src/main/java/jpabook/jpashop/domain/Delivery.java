@@ -2,12 +2,14 @@ package jpabook.jpashop.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import static jakarta.persistence.FetchType.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_delivery_change_seq", columnList = ChangeSequence.COLUMN))
 @Getter @Setter
 public class Delivery {
 
@@ -15,6 +17,14 @@ public class Delivery {
     @Column(name = "delivery_id")
     private Long id;
 
+    @Version
+    private Long version;
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @Column(name = ChangeSequence.COLUMN, insertable = false, updatable = false,
+            columnDefinition = ChangeSequence.COLUMN_DEFINITION)
+    private Long changeSeq;     // DB가 채움 -> 주문 목록 ETag
+
     @JsonIgnore
     @OneToOne(mappedBy = "delivery", fetch = LAZY)
     private Order order;
@@ -23,5 +33,5 @@ public class Delivery {
     private Address address;
 
     @Enumerated(EnumType.STRING)
-    private DeliveryStatus status;  // READY, COMP
+    private DeliveryStatus status = DeliveryStatus.READY;  // READY, COMP (생성 시 배송 준비)
 }
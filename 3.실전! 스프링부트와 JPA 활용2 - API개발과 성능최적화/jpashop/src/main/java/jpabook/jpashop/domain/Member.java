@@ -2,22 +2,38 @@ package jpabook.jpashop.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 이름 중복 방지 + 이름 앞부분 일치(like 'abc%') 검색
+@Table(indexes = {
+        @Index(name = Member.NAME_UNIQUE_INDEX, columnList = "name", unique = true),
+        @Index(name = "idx_member_change_seq", columnList = ChangeSequence.COLUMN)
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 @Getter @Setter
 public class Member {
 
+    public static final String NAME_UNIQUE_INDEX = "uk_member_name";
+
     @Id @GeneratedValue
     @Column(name = "member_id")
     private Long id;
 
     private String name;
 
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @Column(name = ChangeSequence.COLUMN, insertable = false, updatable = false,
+            columnDefinition = ChangeSequence.COLUMN_DEFINITION)
+    private Long changeSeq;     // DB가 채움 -> 주문 목록 ETag
+
     @Embedded
     private Address address;
 
@@ -1,6 +1,7 @@
 package jpabook.jpashop.domain;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.BatchSize;
@@ -12,7 +13,11 @@ import java.util.List;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status", columnList = "status, order_id"),     // 상태 검색 + order_id 역순 키셋
+        @Index(name = "idx_orders_member", columnList = "member_id, order_id"),  // 회원 조인/검색
+        @Index(name = "idx_orders_change_seq", columnList = ChangeSequence.COLUMN)
+})
 @Getter @Setter
 public class Order {
 
@@ -20,11 +25,19 @@ public class Order {
     @Column(name = "order_id")
     private Long id;
 
+    @Version
+    private Long version;   // 변경될 때마다 +1 -> 동시 수정 감지
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @Column(name = ChangeSequence.COLUMN, insertable = false, updatable = false,
+            columnDefinition = ChangeSequence.COLUMN_DEFINITION)
+    private Long changeSeq;     // DB가 채움 -> 주문 목록 ETag
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
-    @BatchSize(size = 10)
+    @BatchSize(size = 100)  // 키셋 페이징 최대 크기와 맞춤 -> 한 페이지의 orderItems를 IN 쿼리 1번으로 조회
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -37,6 +50,13 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private OrderStatus status;    // 주문상태 (ORDER, CANCEL)
 
+    // 주문상품 합계를 주문에 저장 -> 목록에서 총액/수량을 보여줄 때 orderItems를 로딩하지 않음
+    // addOrderItem, cancel 에서만 변경
+    @Setter(AccessLevel.NONE)
+    private int totalPrice;     // 전체 주문 가격
+    @Setter(AccessLevel.NONE)
+    private int itemCount;      // 전체 주문 수량
+
     //== 연관관계 편의메서드 ==//
     // 양방향에서는 연관관계 편의메서드가 있는 것이 필수!
     // 편의메서드는 연관관계 주인이 갖어야 된다.
@@ -48,6 +68,8 @@ public class Order {
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
+        totalPrice += orderItem.getTotalPrice();
+        itemCount += orderItem.getCount();
     }
 
     public void addDelivery(Delivery delivery) {
@@ -77,18 +99,15 @@ public class Order {
             throw new IllegalStateException("이미 배송이 완료된 상품은 취소가 불가능합니다.");
         }
         this.setStatus(OrderStatus.CANCEL);
+        int totalPrice = 0;
+        int itemCount = 0;
         for(OrderItem orderItem : this.orderItems) {
             orderItem.cancel();
+            totalPrice += orderItem.getTotalPrice();
+            itemCount += orderItem.getCount();
         }
-    }
-
-    //== 조회 로직 ==//
-    /**
-     * 전체 주문 가격 조회
-     */
-    public int getTotalPrice() {
-        return orderItems.stream()
-                .mapToInt(OrderItem::getTotalPrice)
-                .sum();
+        // 취소하면서 어차피 주문상품을 모두 읽으므로 합계도 다시 맞춤
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
     }
 }
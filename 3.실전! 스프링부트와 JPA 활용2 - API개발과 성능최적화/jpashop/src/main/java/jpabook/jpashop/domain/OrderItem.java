@@ -21,6 +21,9 @@ public class OrderItem {
     @Column(name = "order_item_id")
     private Long id;
 
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "item_id")
     private Item item;
@@ -44,6 +47,18 @@ public class OrderItem {
         return orderItem;
     }
 
+    /**
+     * 재고를 이미 DB에서 차감한 경우 (ItemRepository.decreaseStock)
+     * -> 엔티티의 재고를 건드리지 않아야 변경감지로 재고를 덮어쓰지 않음
+     */
+    public static OrderItem createOrderItemWithReservedStock(Item item, int orderPrice, int count) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setItem(item);
+        orderItem.setOrderPrice(orderPrice);
+        orderItem.setCount(count);
+        return orderItem;
+    }
+
     //== 비즈니스 로직 ==//
     public void cancel() {
         getItem().addStock(count);  // 주문수량 원상복구
@@ -0,0 +1,60 @@
+package jpabook.jpashop.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 읽기 모델 (비정규화)
+ * 주문 1건 = 1행, 목록 조회 시 orders/member/delivery/order_item/item 조인 없이 이 테이블만 조회
+ * OrderService 주문/취소와 같은 트랜잭션에서 갱신, 전체 재생성/정합성 검사는 OrderSummaryService
+ */
+@Entity
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_status", columnList = "status, order_id"),
+        @Index(name = "idx_order_summary_member", columnList = "member_id, order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;   // 주문 id 그대로 사용 (생성 전략 없음)
+
+    @Column(name = "member_id")
+    private Long memberId;
+    private String memberName;
+
+    @Embedded
+    private Address address;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+    private LocalDateTime orderDate;
+
+    private int itemCount;  // 주문 수량 합계
+    private int totalPrice; // 주문 가격 합계
+
+    //== 생성 메서드 ==//
+    public static OrderSummary from(Order order) {
+        OrderSummary summary = new OrderSummary();
+        summary.orderId = order.getId();
+        summary.memberId = order.getMember().getId();
+        summary.memberName = order.getMember().getName();
+        summary.address = order.getDelivery().getAddress();
+        summary.status = order.getStatus();
+        summary.orderDate = order.getOrderDate();
+        summary.itemCount = order.getItemCount();
+        summary.totalPrice = order.getTotalPrice();
+        return summary;
+    }
+
+    //== 비즈니스 로직 ==//
+    public void cancel() {
+        this.status = OrderStatus.CANCEL;
+    }
+}
@@ -0,0 +1,15 @@
+package jpabook.jpashop.domain.exception;
+
+/**
+ * 상품 수정 충돌 - 화면을 연 뒤 다른 사용자가 같은 값을 먼저 변경했거나, 재시도 횟수를 넘김
+ */
+public class ItemConflictException extends RuntimeException {
+
+    public ItemConflictException(String message) {
+        super(message);
+    }
+
+    public ItemConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,9 +2,13 @@ package jpabook.jpashop.domain.item;
 
 import jakarta.persistence.*;
 import jpabook.jpashop.domain.Category;
+import jpabook.jpashop.domain.ChangeSequence;
 import jpabook.jpashop.domain.exception.NotEnoughStockException;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +16,11 @@ import java.util.List;
 @Entity
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
+@Table(indexes = {
+        @Index(name = "idx_item_dtype", columnList = "dtype, item_id"),     // 타입 필터 + item_id 키셋
+        @Index(name = "idx_item_change_seq", columnList = ChangeSequence.COLUMN)
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "item")  // 하위 타입(Book, Album, Movie)도 같은 리전 사용
 @Getter @Setter
 public class Item {
 
@@ -24,6 +33,14 @@ public class Item {
     private int price;
     private int stockQuantity;
 
+    @Version
+    private Long version;   // 수정될 때마다 +1 -> 동시 수정 감지 (재고 UPDATE 쿼리도 같이 올림)
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @Column(name = ChangeSequence.COLUMN, insertable = false, updatable = false,
+            columnDefinition = ChangeSequence.COLUMN_DEFINITION)
+    private Long changeSeq;     // DB가 채움 -> 주문 목록 ETag
+
     @ManyToMany(mappedBy = "items")
     private List<Category> categories = new ArrayList<>();
 
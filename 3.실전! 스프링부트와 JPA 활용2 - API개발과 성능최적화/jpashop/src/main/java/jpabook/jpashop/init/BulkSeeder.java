@@ -0,0 +1,176 @@
+package jpabook.jpashop.init;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.*;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 대량 데이터 생성
+ * - batchSize 건마다 flush/clear 후 커밋 -> hibernate.jdbc.batch_size + order_inserts 로 batch insert
+ * - id는 엔티티별 시퀀스 + pooled optimizer(Hibernate 기본, 50개씩 할당)
+ * - 2차 캐시는 건너뜀 (CacheMode.IGNORE)
+ * - 회원을 threads 개 파티션으로 나눠 병렬 저장, 파티션마다 (randomSeed + 번호)로 난수 고정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkSeeder {
+
+    private final EntityManager em;
+    private final PlatformTransactionManager transactionManager;
+    private final SeedProperties props;
+
+    public void seed() {
+        long start = System.nanoTime();
+        LongAdder rows = new LongAdder();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        SeededItems items = seedItems(tx, rows);
+        ZipfSampler itemPopularity = new ZipfSampler(items.size(), props.getZipfExponent());
+
+        int threads = Math.max(1, props.getThreads());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            int perPartition = (props.getMembers() + threads - 1) / threads;
+            for (int p = 0; p < threads; p++) {
+                int partition = p;
+                int from = p * perPartition;
+                int to = Math.min(props.getMembers(), from + perPartition);
+                futures.add(executor.submit(() -> seedPartition(tx, partition, from, to, items, itemPopularity, rows)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("대량 데이터 생성 실패", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("seed completed: {} rows in {} s ({} rows/s)",
+                rows.sum(), String.format("%.1f", seconds), String.format("%.0f", rows.sum() / seconds));
+    }
+
+    /* 상품은 주문 생성 시 참조해야 하므로 id, 가격만 메모리에 유지 (파티션 스레드가 공유, 읽기만 함) */
+    private SeededItems seedItems(TransactionTemplate tx, LongAdder rows) {
+        SplittableRandom random = new SplittableRandom(props.getRandomSeed());
+        SeededItems items = new SeededItems(props.getItems());
+        for (int from = 0; from < props.getItems(); from += props.getBatchSize()) {
+            int to = Math.min(props.getItems(), from + props.getBatchSize());
+            int start = from;
+            tx.executeWithoutResult(s -> {
+                ignoreSecondLevelCache();
+                for (int i = start; i < to; i++) {
+                    Book book = new Book();
+                    book.setName("BOOK-" + i);
+                    book.setPrice(1_000 * (1 + random.nextInt(50)));
+                    book.setStockQuantity(Integer.MAX_VALUE / 2);   // 주문으로 재고가 바닥나지 않도록
+                    book.setAuthor("author-" + random.nextInt(1_000));
+                    book.setIsbn(String.valueOf(9_780_000_000_000L + i));
+                    em.persist(book);
+                    items.add(book.getId(), book.getPrice());
+                }
+                em.flush();
+                em.clear();
+            });
+            rows.add(to - from);
+        }
+        return items;
+    }
+
+    private void seedPartition(TransactionTemplate tx, int partition, int fromMember, int toMember,
+                               SeededItems items, ZipfSampler itemPopularity, LongAdder rows) {
+        SplittableRandom random = new SplittableRandom(props.getRandomSeed() + partition + 1);
+        ZipfSampler ordersPerMember = new ZipfSampler(props.getMaxOrdersPerMember(), 1.0);
+        ZipfSampler itemsPerOrder = new ZipfSampler(props.getMaxItemsPerOrder(), 1.0);
+
+        int memberNo = fromMember;
+        while (memberNo < toMember) {
+            int startMember = memberNo;
+            // 한 트랜잭션에 대략 batchSize 행 (회원 + 주문 + 배송 + 주문상품)
+            int[] next = new int[1];
+            long inserted = tx.execute(s -> {
+                ignoreSecondLevelCache();
+                long count = 0;
+                int m = startMember;
+                while (m < toMember && count < props.getBatchSize()) {
+                    Member member = new Member();
+                    member.setName("member-" + m);
+                    member.setAddress(new Address("city-" + random.nextInt(100), "street-" + m, String.valueOf(10_000 + random.nextInt(90_000))));
+                    em.persist(member);
+                    count++;
+
+                    int orderCount = ordersPerMember.sample(random);
+                    for (int o = 0; o < orderCount; o++) {
+                        Delivery delivery = new Delivery();
+                        delivery.setAddress(member.getAddress());
+                        delivery.setStatus(random.nextInt(10) < 7 ? DeliveryStatus.COMP : DeliveryStatus.READY);
+
+                        int lineCount = itemsPerOrder.sample(random);
+                        OrderItem[] orderItems = new OrderItem[lineCount];
+                        for (int l = 0; l < lineCount; l++) {
+                            int index = itemPopularity.sample(random) - 1;
+                            // 프록시(FK만 사용, 조회 없음) + 재고 차감 없음 (시드 재고는 충분)
+                            Item item = em.getReference(Item.class, items.ids[index]);
+                            orderItems[l] = OrderItem.createOrderItemWithReservedStock(item, items.prices[index], 1 + random.nextInt(3));
+                        }
+                        em.persist(Order.createOrder(member, delivery, orderItems));
+                        count += 2 + lineCount;
+                    }
+                    m++;
+                }
+                em.flush();
+                em.clear();
+                next[0] = m;
+                return count;
+            });
+            rows.add(inserted);
+            memberNo = next[0];
+        }
+        log.info("seed partition {} done: members {} ~ {}", partition, fromMember, toMember - 1);
+    }
+
+    private void ignoreSecondLevelCache() {
+        em.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+    }
+
+    /* 저장한 상품의 id, 가격 - 엔티티를 스레드 간에 공유하지 않음 */
+    private static class SeededItems {
+        private final long[] ids;
+        private final int[] prices;
+        private int size;
+
+        SeededItems(int capacity) {
+            ids = new long[capacity];
+            prices = new int[capacity];
+        }
+
+        void add(long id, int price) {
+            ids[size] = id;
+            prices[size] = price;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
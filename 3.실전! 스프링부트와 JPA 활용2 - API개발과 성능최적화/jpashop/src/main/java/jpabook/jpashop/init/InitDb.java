@@ -1,6 +1,7 @@
 package jpabook.jpashop.init;
 
 import jakarta.annotation.PostConstruct;
+import jpabook.jpashop.service.OrderSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -18,11 +19,21 @@ import org.springframework.stereotype.Component;
 public class InitDb {
 
     private final InitService initService;
+    private final SeedProperties seedProperties;
+    private final BulkSeeder bulkSeeder;
+    private final OrderSummaryService orderSummaryService;
 
     @PostConstruct
     public void init() {
-        initService.dbInit1();
-        initService.dbInit2();
+        // 부하 테스트 -> jpashop.seed.enabled=true
+        if (seedProperties.isEnabled()) {
+            bulkSeeder.seed();
+        } else {
+            initService.dbInit1();
+            initService.dbInit2();
+        }
+        // 초기 데이터는 OrderService를 거치지 않음 -> 주문 요약은 한 번에 생성
+        orderSummaryService.rebuild();
     }
 
 }
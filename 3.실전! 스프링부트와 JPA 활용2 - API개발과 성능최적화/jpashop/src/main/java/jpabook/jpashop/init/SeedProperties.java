@@ -0,0 +1,28 @@
+package jpabook.jpashop.init;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트용 대량 데이터 설정 (jpashop.seed.*)
+ * enabled=false 이면 기존 샘플 데이터(주문 2개)만 넣는다.
+ */
+@Component
+@ConfigurationProperties(prefix = "jpashop.seed")
+@Getter @Setter
+public class SeedProperties {
+
+    private boolean enabled = false;
+
+    private int members = 10_000;
+    private int items = 1_000;
+    private int maxOrdersPerMember = 20;    // 회원당 주문 수 1 ~ max (적은 쪽이 많음)
+    private int maxItemsPerOrder = 5;       // 주문당 상품 수 1 ~ max (적은 쪽이 많음)
+    private double zipfExponent = 1.0;      // 상품 인기도 치우침 (0이면 균등)
+
+    private long randomSeed = 42;           // 같은 seed -> 같은 데이터 (파티션 별로 고정)
+    private int threads = 1;                // 회원을 파티션으로 나눠서 병렬 저장
+    private int batchSize = 1_000;          // flush/clear + 커밋 단위 (hibernate.jdbc.batch_size 와 맞춤)
+}
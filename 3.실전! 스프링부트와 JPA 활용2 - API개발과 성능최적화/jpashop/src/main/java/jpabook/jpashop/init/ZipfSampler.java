@@ -0,0 +1,34 @@
+package jpabook.jpashop.init;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 1 ~ n 중 하나를 Zipf 분포로 뽑음 -> P(k) ∝ 1 / k^s
+ * 누적분포를 미리 계산해두고 이분탐색 (n = 100만이면 double[] 8MB)
+ */
+class ZipfSampler {
+
+    private final double[] cdf;
+
+    ZipfSampler(int n, double exponent) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    /* 1 ~ n */
+    int sample(RandomGenerator random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        return Math.min(idx, cdf.length - 1) + 1;
+    }
+}
@@ -0,0 +1,18 @@
+package jpabook.jpashop.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * API 한 번 호출에 허용되는 SQL 수
+ * 초과하면 jpashop.query-budget.mode 에 따라 경고 로그(log) 또는 예외(fail)
+ * ex) @QueryBudget(2) -> 주문 1번 + 주문상품 IN 1번
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,51 @@
+package jpabook.jpashop.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @QueryBudget 이 붙은 메서드 안에서 실행된 SQL 수를 검사
+ * 컨트롤러 메서드 안에서 판단하므로 fail 모드면 응답을 쓰기 전에 예외(500)로 끝남
+ */
+@Slf4j
+@Aspect
+@Component
+public class QueryBudgetAspect {
+
+    private final boolean failOnExceed;
+
+    public QueryBudgetAspect(@Value("${jpashop.query-budget.mode:log}") String mode) {
+        this.failOnExceed = "fail".equalsIgnoreCase(mode);
+    }
+
+    @Around("@annotation(budget)")
+    public Object checkBudget(ProceedingJoinPoint joinPoint, QueryBudget budget) throws Throwable {
+        QueryCounter.Counts counts = QueryCounter.current();
+        boolean owner = counts == null;
+        if (owner) {
+            counts = QueryCounter.start();
+        }
+        long before = counts.getStatements();
+        try {
+            Object result = joinPoint.proceed();
+            long used = counts.getStatements() - before;
+            if (used > budget.value()) {
+                String message = String.format("SQL 예산 초과 (N+1 의심): %s -> %d 개 실행, 허용 %d 개",
+                        joinPoint.getSignature().toShortString(), used, budget.value());
+                if (failOnExceed) {
+                    throw new QueryBudgetExceededException(message);
+                }
+                log.warn(message);
+            }
+            return result;
+        } finally {
+            if (owner) {
+                QueryCounter.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package jpabook.jpashop.monitoring;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package jpabook.jpashop.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL을 준비할 때마다 호출됨 -> SQL은 그대로 두고 횟수만 집계
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.statement();
+        return sql;
+    }
+}
@@ -0,0 +1,79 @@
+package jpabook.jpashop.monitoring;
+
+import lombok.Getter;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL / 엔티티 로딩 / 컬렉션 로딩 횟수
+ * - start() ~ stop() 사이에서만 집계 (요청 단위는 QueryMetricsInterceptor 가 관리)
+ * - 집계는 Hibernate StatementInspector, 이벤트 리스너에서 호출됨
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    /* 집계 중이 아니면 null */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    static void statement() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoad() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    static void collectionFetch() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionFetches++;
+        }
+    }
+
+    @Getter
+    public static class Counts {
+        private long statements;        // 실행된 SQL 수 (DB 왕복)
+        private long entityLoads;       // DB에서 읽어 만든 엔티티 수
+        private long collectionFetches; // 지연 로딩된 컬렉션 초기화 횟수
+
+        public void reset() {
+            statements = 0;
+            entityLoads = 0;
+            collectionFetches = 0;
+        }
+
+        /* 다른 스레드에서 집계한 값을 더함 (병렬 조회 작업 -> 호출한 요청) */
+        public void add(Counts other) {
+            statements += other.statements;
+            entityLoads += other.entityLoads;
+            collectionFetches += other.collectionFetches;
+        }
+
+        @Override
+        public String toString() {
+            return "statements=" + statements + ", entityLoads=" + entityLoads + ", collectionFetches=" + collectionFetches;
+        }
+    }
+}
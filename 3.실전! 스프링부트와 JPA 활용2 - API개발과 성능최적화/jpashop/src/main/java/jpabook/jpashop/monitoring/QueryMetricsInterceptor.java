@@ -0,0 +1,50 @@
+package jpabook.jpashop.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 단위 SQL 집계 -> Micrometer 히스토그램 (endpoint 태그)
+ * - jpashop.request.sql.statements
+ * - jpashop.request.entity.loads
+ * - jpashop.request.collection.fetches
+ */
+@RequiredArgsConstructor
+public class QueryMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounter.Counts counts = QueryCounter.stop();
+        if (counts == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        record("jpashop.request.sql.statements", request.getMethod(), endpoint, counts.getStatements());
+        record("jpashop.request.entity.loads", request.getMethod(), endpoint, counts.getEntityLoads());
+        record("jpashop.request.collection.fetches", request.getMethod(), endpoint, counts.getCollectionFetches());
+    }
+
+    private void record(String name, String method, String endpoint, long amount) {
+        DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
@@ -0,0 +1,38 @@
+package jpabook.jpashop.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 요청별 SQL 수 집계 (N+1 감지)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class QueryMonitoringConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new QueryCountIntegrator()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryMetricsInterceptor(meterRegistry))
+                .addPathPatterns("/**")
+                .excludePathPatterns("/css/**", "/js/**", "/*.ico", "/error", "/actuator/**");
+    }
+}
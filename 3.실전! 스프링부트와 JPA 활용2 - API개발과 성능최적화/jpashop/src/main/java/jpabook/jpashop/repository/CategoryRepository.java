@@ -0,0 +1,58 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Category;
+import jpabook.jpashop.domain.item.Item;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CategoryRepository {
+
+    private final EntityManager em;
+
+    public void save(Category category) {
+        em.persist(category);
+    }
+
+    public Category findOne(Long id) {
+        return em.find(Category.class, id);
+    }
+
+    /* 트리 전체 1번 조회 - 엔티티 대신 필요한 컬럼만, 부모가 항상 자식보다 먼저 오도록 depth 순 */
+    public List<CategoryRow> findAllRows() {
+        return em.createQuery(
+                        "select new jpabook.jpashop.repository.CategoryRow(c.id, c.name, p.id, c.depth, c.path)" +
+                                " from Category c" +
+                                " left join c.parent p" +
+                                " order by c.depth, c.id", CategoryRow.class)
+                .getResultList();
+    }
+
+    /* 자기 자신 + 하위 카테고리 전체 (path 인덱스 범위 검색) */
+    public List<Category> findSubtree(String path) {
+        return em.createQuery("select c from Category c where c.path like :prefix", Category.class)
+                .setParameter("prefix", path + "%")
+                .getResultList();
+    }
+
+    /**
+     * 카테고리(하위 포함)에 속한 상품 - 재귀 탐색 없이 쿼리 1번
+     * path 인덱스로 하위 카테고리를 찾고 category_item 조인
+     */
+    public List<Item> findItemsUnder(String path, int offset, int limit) {
+        return em.createQuery(
+                        "select i from Item i" +
+                                " where i.id in (" +
+                                "   select ci.id from Category c join c.items ci" +
+                                "   where c.path like :prefix)" +
+                                " order by i.id", Item.class)
+                .setParameter("prefix", path + "%")
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,15 @@
+package jpabook.jpashop.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryRow {
+
+    private Long id;
+    private String name;
+    private Long parentId;
+    private int depth;
+    private String path;
+}
@@ -0,0 +1,69 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jpabook.jpashop.domain.Delivery;
+import jpabook.jpashop.domain.DeliveryStatus;
+import jpabook.jpashop.service.DeliverySearch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DeliveryRepository {
+
+    private final EntityManager em;
+
+    public Delivery findOne(Long id) {
+        return em.find(Delivery.class, id);
+    }
+
+    /**
+     * 배송 완료 벌크 UPDATE - 묶음(ids) 한 번에 1 statement
+     * 이미 완료된 배송은 건너뜀, @Version도 직접 올려서 이 행을 읽고 있던 다른 트랜잭션의 낙관적 락이 실패하도록 함
+     * @return 실제 변경된 행 수
+     */
+    public int complete(List<Long> deliveryIds) {
+        return em.createQuery("update Delivery d" +
+                        " set d.status = :comp, d.version = d.version + 1" +
+                        " where d.id in :ids and d.status = :ready")
+                .setParameter("comp", DeliveryStatus.COMP)
+                .setParameter("ready", DeliveryStatus.READY)
+                .setParameter("ids", deliveryIds)
+                .executeUpdate();
+    }
+
+    /**
+     * 조건에 맞는 배송 준비(READY) id - delivery_id 순 키셋
+     * @param afterId 이전 묶음의 마지막 id (처음은 null)
+     */
+    public List<Long> findReadyIds(DeliverySearch search, Long afterId, int limit) {
+        String jpql = "select d.id from Order o join o.delivery d where d.status = :ready";
+        if (search.getOrderedBefore() != null) {
+            jpql += " and o.orderDate < :orderedBefore";
+        }
+        if (search.getCity() != null) {
+            jpql += " and d.address.city = :city";
+        }
+        if (afterId != null) {
+            jpql += " and d.id > :afterId";
+        }
+        jpql += " order by d.id";
+
+        TypedQuery<Long> query = em.createQuery(jpql, Long.class)
+                .setParameter("ready", DeliveryStatus.READY)
+                .setMaxResults(limit);
+        if (search.getOrderedBefore() != null) {
+            query.setParameter("orderedBefore", search.getOrderedBefore());
+        }
+        if (search.getCity() != null) {
+            query.setParameter("city", search.getCity());
+        }
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,23 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.DiscriminatorValue;
+import lombok.Data;
+
+@Data
+public class ItemListDto {
+
+    private Long id;
+    private String dtype;
+    private String name;
+    private int price;
+    private int stockQuantity;
+
+    public ItemListDto(Long id, Class<?> type, String name, int price, int stockQuantity) {
+        this.id = id;
+        DiscriminatorValue discriminator = type.getAnnotation(DiscriminatorValue.class);
+        this.dtype = discriminator != null ? discriminator.value() : type.getSimpleName();   // 기본값 = 엔티티 이름
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+}
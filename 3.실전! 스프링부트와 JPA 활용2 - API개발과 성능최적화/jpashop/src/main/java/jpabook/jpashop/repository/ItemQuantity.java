@@ -0,0 +1,13 @@
+package jpabook.jpashop.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 상품별 수량 합계 */
+@Getter
+@AllArgsConstructor
+public class ItemQuantity {
+
+    private Long itemId;
+    private long quantity;
+}
@@ -1,17 +1,35 @@
 package jpabook.jpashop.repository;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.service.ItemBulkRow;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class ItemRepository {
 
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 재고 UPDATE 전용 query space -> Hibernate가 item 2차 캐시 리전 전체를 비우지 않도록 함 (해당 상품만 직접 evict)
+    private static final String STOCK_QUERY_SPACE = "item_stock";
 
     public void save(Item item) {
         if(item.getId() == null) {
@@ -25,8 +43,137 @@ public class ItemRepository {
         return em.find(Item.class, id);
     }
 
+    /* 수정용 조회 - 2차 캐시를 거치지 않고 DB의 최신 값/버전을 읽음 */
+    public Item findLatest(Long id) {
+        return em.find(Item.class, id, Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS));
+    }
+
+    public void flush() {
+        em.flush();
+    }
+
+    public List<Item> findAllById(Collection<Long> ids) {
+        return em.createQuery("select i from Item i where i.id in :ids", Item.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /* 쿼리 캐시 -> id 목록만 캐시하고 엔티티는 2차 캐시에서 꺼냄
+       item 테이블이 변경(변경감지, 벌크 update 포함)되면 Hibernate가 자동 무효화 */
     public List<Item> findAll() {
         return em.createQuery("select i from Item i", Item.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getResultList();
     }
+
+    /**
+     * 상품 목록 - 화면에 필요한 컬럼만 DTO로 조회 (엔티티/영속성 컨텍스트/2차 캐시 적재 없음)
+     * item_id 순 키셋 페이징, type 지정 시 해당 타입(dtype)만
+     * @param cursor 이전 페이지 마지막 itemId (첫 페이지 null)
+     */
+    public List<ItemListDto> findItemList(Class<? extends Item> type, Long cursor, int limit) {
+        String jpql = "select new jpabook.jpashop.repository.ItemListDto(i.id, type(i), i.name, i.price, i.stockQuantity)" +
+                " from Item i where 1 = 1";
+        if (type != null) {
+            jpql += " and type(i) = :type";
+        }
+        if (cursor != null) {
+            jpql += " and i.id > :cursor";
+        }
+        jpql += " order by i.id";
+
+        TypedQuery<ItemListDto> query = em.createQuery(jpql, ItemListDto.class)
+                .setMaxResults(limit);
+        if (type != null) {
+            query.setParameter("type", type);
+        }
+        if (cursor != null) {
+            query.setParameter("cursor", cursor);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * 재고 조건부 차감 - 엔티티를 읽고 쓰지 않고 UPDATE 한 번으로 처리
+     * 동시에 주문이 몰려도 DB가 행 단위로 순서를 보장 -> 재고보다 많이 팔리지 않음
+     * @return 차감 성공 여부 (false -> 재고 부족)
+     */
+    public boolean decreaseStock(Long itemId, int quantity) {
+        int updated = em.createNativeQuery("update item set stock_quantity = stock_quantity - :quantity, version = version + 1" +
+                        " where item_id = :itemId and stock_quantity >= :quantity")
+                .setParameter("quantity", quantity)
+                .setParameter("itemId", itemId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(STOCK_QUERY_SPACE)
+                .executeUpdate();
+        evictFromCache(itemId);
+        return updated == 1;
+    }
+
+    /**
+     * 재고 일괄 증가 - 상품별 수량이 달라도 UPDATE 1번
+     * update item set stock_quantity = stock_quantity + case item_id when ? then ? ... end where item_id in (...)
+     * @param quantities 상품 id -> 증가 수량
+     * @return 변경된 행 수
+     */
+    public int addStock(Map<Long, Integer> quantities) {
+        StringBuilder sql = new StringBuilder("update item set version = version + 1, stock_quantity = stock_quantity + case item_id");
+        for (int i = 0; i < quantities.size(); i++) {
+            sql.append(" when :id").append(i).append(" then :quantity").append(i);
+        }
+        sql.append(" end where item_id in (:ids)");
+
+        NativeQuery<?> query = em.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(STOCK_QUERY_SPACE);
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            query.setParameter("id" + i, entry.getKey());
+            query.setParameter("quantity" + i, entry.getValue());
+            i++;
+        }
+        return query.setParameter("ids", quantities.keySet())
+                .executeUpdate();
+    }
+
+    /**
+     * 가격/재고 일괄 변경 - JDBC batch (PreparedStatement 1개, 행마다 addBatch)
+     * 버전이 다르거나(version 지정 시) 재고가 음수가 되는 행은 변경하지 않음 -> 결과 0
+     * 호출 전에 flush, 호출 후 변경된 상품은 2차 캐시/영속성 컨텍스트 정리 필요
+     * @return 행별 변경 수 (1 성공, 0 실패)
+     */
+    public int[] bulkUpdate(List<ItemBulkRow> rows) {
+        String sql = "update item set price = coalesce(cast(? as integer), price)," +
+                " stock_quantity = stock_quantity + ?, version = version + 1" +
+                " where item_id = ? and (cast(? as bigint) is null or version = ?) and stock_quantity + ? >= 0";
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (ItemBulkRow row : rows) {
+            args.add(new Object[]{row.getPrice(), row.getStockDelta(), row.getItemId(),
+                    row.getVersion(), row.getVersion(), row.getStockDelta()});
+        }
+        return jdbcTemplate.batchUpdate(sql, args,
+                new int[]{Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.INTEGER});
+    }
+
+    /* 일괄 변경 실패 행 원인 확인용 - 현재 버전/재고 (엔티티 로딩 없음) */
+    public List<ItemVersionRow> findVersions(Collection<Long> ids) {
+        return em.createQuery("select new jpabook.jpashop.repository.ItemVersionRow(i.id, i.version, i.stockQuantity)" +
+                        " from Item i where i.id in :ids", ItemVersionRow.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /* 2차 캐시의 재고가 오래된 값이 되지 않도록 지금, 그리고 커밋 후에 한 번 더 제거 */
+    private void evictFromCache(Long itemId) {
+        Cache cache = em.getEntityManagerFactory().getCache();
+        cache.evict(Item.class, itemId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(Item.class, itemId);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package jpabook.jpashop.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemVersionRow {
+
+    private Long id;
+    private Long version;
+    private int stockQuantity;
+}
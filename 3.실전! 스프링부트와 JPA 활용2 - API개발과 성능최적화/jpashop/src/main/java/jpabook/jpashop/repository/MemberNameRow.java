@@ -0,0 +1,12 @@
+package jpabook.jpashop.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberNameRow {
+
+    private Long id;
+    private String name;
+}
@@ -1,7 +1,10 @@
 package jpabook.jpashop.repository;
 
 import jpabook.jpashop.domain.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,4 +12,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // select m from Member m where m.name = :name
     List<Member> findByName(String name);
+
+    boolean existsByName(String name);
+
+    // 이름 필터 적재용 (id 순 키셋)
+    @Query("select new jpabook.jpashop.repository.MemberNameRow(m.id, m.name) from Member m" +
+            " where m.id > :afterId order by m.id")
+    List<MemberNameRow> findNameRows(@Param("afterId") Long afterId, Limit limit);
 }
@@ -5,6 +5,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
+import jpabook.jpashop.domain.DeliveryStatus;
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderStatus;
 import jpabook.jpashop.service.OrderSearch;
@@ -23,6 +24,8 @@ public class OrderRepository {
     private final EntityManager em;
     private final JPAQueryFactory query;
 
+    private static final char LIKE_ESCAPE = '\\';
+
     public OrderRepository(EntityManager em) {
         this.em = em;
         this.query = new JPAQueryFactory(em);
@@ -32,10 +35,63 @@ public class OrderRepository {
         em.persist(order);
     }
 
+    //== 일괄 취소 ==//
+
+    /* 취소 가능한 주문 id - 주문 상태 + 배송 상태를 쿼리 1번으로 확인 (이미 취소, 배송 완료 제외) */
+    public List<Long> findCancellableIds(List<Long> orderIds) {
+        return em.createQuery("select o.id from Order o join o.delivery d" +
+                        " where o.id in :ids and o.status = :order and d.status <> :comp", Long.class)
+                .setParameter("ids", orderIds)
+                .setParameter("order", OrderStatus.ORDER)
+                .setParameter("comp", DeliveryStatus.COMP)
+                .getResultList();
+    }
+
+    /* 회원의 배송 전 주문 id */
+    public List<Long> findCancellableIdsByMember(Long memberId) {
+        return em.createQuery("select o.id from Order o join o.delivery d" +
+                        " where o.member.id = :memberId and o.status = :order and d.status <> :comp" +
+                        " order by o.id", Long.class)
+                .setParameter("memberId", memberId)
+                .setParameter("order", OrderStatus.ORDER)
+                .setParameter("comp", DeliveryStatus.COMP)
+                .getResultList();
+    }
+
+    /* 주문상품 수량 - 상품별 합계 */
+    public List<ItemQuantity> findItemQuantities(List<Long> orderIds) {
+        return em.createQuery("select new jpabook.jpashop.repository.ItemQuantity(oi.item.id, sum(oi.count))" +
+                        " from OrderItem oi" +
+                        " where oi.order.id in :ids" +
+                        " group by oi.item.id", ItemQuantity.class)
+                .setParameter("ids", orderIds)
+                .getResultList();
+    }
+
+    /**
+     * 주문 상태 일괄 취소 - @Version도 함께 올림 (이 주문을 읽고 있던 다른 트랜잭션의 낙관적 락 실패)
+     * @return 변경된 행 수 (그 사이 다른 트랜잭션이 취소했거나 배송 완료했으면 적음)
+     */
+    public int cancelAll(List<Long> orderIds) {
+        return em.createQuery("update Order o" +
+                        " set o.status = :cancel, o.version = o.version + 1" +
+                        " where o.id in :ids and o.status <> :cancel" +    // status = ORDER 로 쓰면 (status, order_id) 인덱스로 전체 주문 스캔
+                        " and exists (select d.id from Delivery d where d.id = o.delivery.id and d.status <> :comp)")
+                .setParameter("cancel", OrderStatus.CANCEL)
+                .setParameter("comp", DeliveryStatus.COMP)
+                .setParameter("ids", orderIds)
+                .executeUpdate();
+    }
+
     public Order findOne(Long id) {
         return em.find(Order.class, id);
     }
 
+    /* 영속성 컨텍스트에서 제외 -> 이 주문의 orderItems는 @BatchSize IN 조회 대상에서 빠짐 */
+    public void detach(Order order) {
+        em.detach(order);
+    }
+
     // ** 이 방법의 문제점!
     // status, name이 null 이면 이 쿼리를 사용할 수 없음 -> 동적 쿼리 최적화가 필요(QueryDSL)
 //    public List<Order> findAll(OrderSearch orderSearch){
@@ -47,7 +103,9 @@ public class OrderRepository {
 //                        .getResultList();
 //    }
 
-    /* jpql */
+    /* jpql
+       - 회원 이름은 앞부분 일치(like 'abc%') -> member.name 인덱스 사용 가능 ('%abc%'는 전체 스캔)
+       - order_id 역순 정렬 + 키셋(cursor) -> 페이지가 뒤로 가도 인덱스에서 바로 이어서 읽음 */
     public List<Order> findAllByString(OrderSearch orderSearch) {
 
         String jpql = "select o from Order o join o.member m";
@@ -72,17 +130,32 @@ public class OrderRepository {
             } else {
                 jpql += " and";
             }
-            jpql += " m.name like :name";
+            jpql += " m.name like :name escape '\\'";
+        }
+
+        //키셋
+        if (orderSearch.getCursor() != null) {
+            if (isFirstCondition) {
+                jpql += " where";
+                isFirstCondition = false;
+            } else {
+                jpql += " and";
+            }
+            jpql += " o.id < :cursor";
         }
+        jpql += " order by o.id desc";
 
         TypedQuery<Order> query = em.createQuery(jpql, Order.class)
-                .setMaxResults(1000);
+                .setMaxResults(orderSearch.getLimit());
 
         if (orderSearch.getOrderStatus() != null) {
             query = query.setParameter("status", orderSearch.getOrderStatus());
         }
         if (StringUtils.hasText(orderSearch.getMemberName())) {
-            query = query.setParameter("name", orderSearch.getMemberName());
+            query = query.setParameter("name", prefixPattern(orderSearch.getMemberName()));
+        }
+        if (orderSearch.getCursor() != null) {
+            query = query.setParameter("cursor", orderSearch.getCursor());
         }
 
         return query.getResultList();
@@ -106,57 +179,117 @@ public class OrderRepository {
         //회원 이름 검색
         if (StringUtils.hasText(orderSearch.getMemberName())) {
             Predicate name =
-                    cb.like(m.<String>get("name"), "%" + orderSearch.getMemberName() + "%");
+                    cb.like(m.<String>get("name"), prefixPattern(orderSearch.getMemberName()), LIKE_ESCAPE);
             criteria.add(name);
         }
+        //키셋
+        if (orderSearch.getCursor() != null) {
+            criteria.add(cb.lt(o.<Long>get("id"), orderSearch.getCursor()));
+        }
 
         cq.where(cb.and(criteria.toArray(new Predicate[criteria.size()])));
-        TypedQuery<Order> query = em.createQuery(cq).setMaxResults(1000);
+        cq.orderBy(cb.desc(o.get("id")));
+        TypedQuery<Order> query = em.createQuery(cq)
+                .setMaxResults(orderSearch.getLimit());
         return query.getResultList();
     }
 
+    /* 입력값의 %, _ 는 문자 그대로 검색되도록 escape 후 뒤에만 % */
+    private static String prefixPattern(String name) {
+        String escaped = name.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
     /*  장점 -> 공용으로 갖고 다른 곳에서 다른 용도 사용할 수 있음, 성능에 제일 좋음(권장) */
     public List<Order> findAllWithMemberDelivery() {
         return em.createQuery(
                 "select o from Order o" +
                         " join fetch o.member m" +
-                        " join fetch o.delivery d", Order.class).getResultList();
+                        " join fetch o.delivery d", Order.class)
+                .getResultList();
     }
 
-    /* QueryDSL */
+    /* QueryDSL - 검색 조건 + order_id 역순 키셋, 회원은 페치 조인(목록에 이름 표시) */
     public List<Order> findAll(OrderSearch orderSearch) {
+        return findAll(orderSearch, orderSearch.getLimit());
+    }
+
+    public List<Order> findAll(OrderSearch orderSearch, int limit) {
         return query.select(order)
                     .from(order)
-                    .join(order.member, member)
+                    .join(order.member, member).fetchJoin()
                     .where(statusEq(orderSearch.getOrderStatus()),
-                            nameLike(orderSearch.getMemberName()))  // null 이면 where을 안씀
-                    .limit(1000)
+                            nameStartsWith(orderSearch.getMemberName()),  // null 이면 where을 안씀
+                            idLessThan(orderSearch.getCursor()))
+                    .orderBy(order.id.desc())
+                    .limit(limit)
                     .fetch();
     }
 
+    /* 전체 건수 - 페이지/키셋 조건은 제외 */
+    public long count(OrderSearch orderSearch) {
+        Long count = query.select(order.count())
+                .from(order)
+                .join(order.member, member)
+                .where(statusEq(orderSearch.getOrderStatus()),
+                        nameStartsWith(orderSearch.getMemberName()))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
     private BooleanExpression statusEq(OrderStatus statusCond) {
         if (statusCond == null) {
             return null;
         }
         return order.status.eq(statusCond);
     }
-    private BooleanExpression nameLike(String nameCond) {
+    private BooleanExpression nameStartsWith(String nameCond) {
         if (!StringUtils.hasText(nameCond)) {
             return null;
         }
-        return member.name.like(nameCond);
+        return member.name.startsWith(nameCond);    // like 'abc%' (%, _ 는 escape)
+    }
+    private BooleanExpression idLessThan(Long cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return order.id.lt(cursor);
     }
 
+    /* offset 페이징 - 정렬이 없으면 페이지마다 순서가 달라져 중복/누락이 생길 수 있으므로 o.id 순 */
     public List<Order> findAllWithMemberDelivery(int offset, int limit) {
         return em.createQuery(
                 "select o from Order o" +
                         " join fetch o.member m" +
-                        " join fetch o.delivery d", Order.class)
+                        " join fetch o.delivery d" +
+                        " order by o.id", Order.class)
                 .setFirstResult(offset)
                 .setMaxResults(limit)
                 .getResultList();
     }
 
+    /* 키셋(seek) 페이징 -> order_id 기준으로 이어서 조회
+       offset 페이징과 달리 뒤 페이지로 갈수록 느려지지 않음 (PK 인덱스로 바로 찾아감)
+       xToOne은 페치 조인, 컬렉션(orderItems)은 @BatchSize로 페이지 단위 IN 조회 */
+    public List<Order> findAllWithMemberDeliveryAfter(Long lastOrderId, int limit) {
+        String jpql = "select o from Order o" +
+                " join fetch o.member m" +
+                " join fetch o.delivery d";
+        if (lastOrderId != null) {
+            jpql += " where o.id > :lastOrderId";
+        }
+        jpql += " order by o.id";
+
+        TypedQuery<Order> query = em.createQuery(jpql, Order.class)
+                .setMaxResults(limit);
+        if (lastOrderId != null) {
+            query.setParameter("lastOrderId", lastOrderId);
+        }
+        return query.getResultList();
+    }
+
     /* SpringBoot 3.x 자동 distinct 처리
        단점 -> 페이징 처리 안됨 */
     public List<Order> findAllWithItem() {
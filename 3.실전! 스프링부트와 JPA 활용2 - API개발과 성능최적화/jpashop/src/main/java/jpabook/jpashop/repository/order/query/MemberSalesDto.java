@@ -0,0 +1,20 @@
+package jpabook.jpashop.repository.order.query;
+
+import lombok.Data;
+
+@Data
+public class MemberSalesDto {
+    private Long memberId;
+    private String name;
+    private long orderCount;
+    private long totalPrice;
+    private long itemCount;
+
+    public MemberSalesDto(Long memberId, String name, long orderCount, long totalPrice, long itemCount) {
+        this.memberId = memberId;
+        this.name = name;
+        this.orderCount = orderCount;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+}
@@ -1,18 +1,53 @@
 package jpabook.jpashop.repository.order.query;
 
 import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.repository.support.ChunkedInQueryLoader;
+import jpabook.jpashop.repository.support.FlatRowAssembler;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderQueryRepository {
 
     private final EntityManager em;
+    private final ChunkedInQueryLoader chunkedInQueryLoader;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    /* o.id 순으로 정렬된 플랫 데이터 -> 주문(OrderQueryDto) + 주문상품(OrderItemQueryDto) */
+    public static final FlatRowAssembler<OrderFlatDto, OrderQueryDto, OrderItemQueryDto> ORDER_FLAT_ASSEMBLER =
+            new FlatRowAssembler<>(
+                    OrderFlatDto::getOrderId,
+                    o -> new OrderQueryDto(o.getOrderId(), o.getName(), o.getOrderDate(), o.getOrderStatus(), o.getAddress(), new ArrayList<>()),
+                    o -> new OrderItemQueryDto(o.getOrderId(), o.getItemName(), o.getOrderPrice(), o.getCount()),
+                    (order, orderItem) -> order.getOrderItems().add(orderItem));
+
+    /**
+     * 주문 목록 변경 토큰 - 쿼리 1번 (테이블마다 change_seq 인덱스 끝 1건 + 주문 수)
+     * 목록에 보이는 주문/배송/회원/상품 중 하나라도 insert/update 되면 max(change_seq) 증가, 주문 삭제는 주문 수로 확인
+     * change_seq는 DB가 채우므로 벌크/직접 SQL, 다른 인스턴스의 변경도 포함 (ChangeSequence)
+     * 순번은 커밋이 아니라 쓰는 시점에 받음 -> 먼저 쓰고 늦게 커밋한 트랜잭션은 다음 변경 전까지 토큰에 안 보일 수 있음
+     */
+    public String findChangeToken() {
+        Object[] row = (Object[]) em.createNativeQuery(
+                        "select greatest(" +
+                                " coalesce((select max(change_seq) from orders), 0)," +
+                                " coalesce((select max(change_seq) from delivery), 0)," +
+                                " coalesce((select max(change_seq) from member), 0)," +
+                                " coalesce((select max(change_seq) from item), 0))," +
+                                " (select count(*) from orders)")
+                .getSingleResult();
+        return row[0] + "-" + row[1];
+    }
 
     /* 주문 조회 - JPA에서 DTO 직접조회 */
     public List<OrderQueryDto> findOrderQueryDtos() {
@@ -39,27 +74,58 @@ public class OrderQueryRepository {
         return result;
     }
 
+    /* orderId가 많으면 ChunkedInQueryLoader가 고정 크기로 나눠서(필요하면 병렬로) 조회 */
     private Map<Long, List<OrderItemQueryDto>> findOrderItemMap(List<Long> orderIds) {
 
-        List<OrderItemQueryDto> orderItems =
+        List<OrderItemQueryDto> orderItems = chunkedInQueryLoader.load(orderIds, ids ->
                 em.createQuery("select new jpabook.jpashop.repository.order.query.OrderItemQueryDto(" +
                         "oi.order.id, i.name, i.price, oi.count)" +
                         " from OrderItem oi " +
                         " join oi.item i" +
                         " where oi.order.id in :orderIds", OrderItemQueryDto.class)
-                .setParameter("orderIds", orderIds)
-                .getResultList();
+                .setParameter("orderIds", ids)
+                .getResultList());
 
         Map<Long, List<OrderItemQueryDto>> orderItemMap = orderItems.stream()
                 .collect(Collectors.groupingBy(orderItemQueryDto -> orderItemQueryDto.getOrderId()));
         return orderItemMap;
     }
 
+    //== 리포트 ==//
+
+    /* 주문상품 기준 주문별 합계 (group by o.id)
+       주문에 저장된 totalPrice/itemCount 검증, 주문상품 단위 리포트용 */
+    public List<OrderTotalDto> findOrderTotals(List<Long> orderIds) {
+        return chunkedInQueryLoader.load(orderIds, ids ->
+                em.createQuery("select new jpabook.jpashop.repository.order.query.OrderTotalDto(" +
+                                "o.id, sum(oi.orderPrice * oi.count), sum(oi.count))" +
+                                " from OrderItem oi" +
+                                " join oi.order o" +
+                                " where o.id in :orderIds" +
+                                " group by o.id", OrderTotalDto.class)
+                        .setParameter("orderIds", ids)
+                        .getResultList());
+    }
+
+    /* 회원별 주문 수/금액/수량 - 주문에 저장된 합계를 사용하므로 order_item 조인 없음 */
+    public List<MemberSalesDto> findMemberSales(OrderStatus status) {
+        return em.createQuery("select new jpabook.jpashop.repository.order.query.MemberSalesDto(" +
+                        "m.id, m.name, count(o), sum(o.totalPrice), sum(o.itemCount))" +
+                        " from Order o" +
+                        " join o.member m" +
+                        " where o.status = :status" +
+                        " group by m.id, m.name" +
+                        " order by sum(o.totalPrice) desc", MemberSalesDto.class)
+                .setParameter("status", status)
+                .getResultList();
+    }
+
     private List<Long> toOrderId(List<OrderQueryDto> result) {
         return result.stream().map(o -> o.getOrderId()).collect(Collectors.toList());
     }
 
-    /* 주문 조회 - JPA에서 DTO 직접조회(플랫 데이터 최적화) */
+    /* 주문 조회 - JPA에서 DTO 직접조회(플랫 데이터 최적화)
+       o.id 순 정렬 -> ORDER_FLAT_ASSEMBLER로 한 번에 묶을 수 있음 */
     public List<OrderFlatDto> findAllByDto_flat() {
         return em.createQuery("select new jpabook.jpashop.repository.order.query.OrderFlatDto(" +
                 "o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
@@ -68,7 +134,24 @@ public class OrderQueryRepository {
                 " join o.delivery d" +
                 " join o.orderItems oi" +
                 " join oi.item i" +
-                "", OrderFlatDto.class).getResultList();
+                " order by o.id", OrderFlatDto.class).getResultList();
+    }
+
+    /* 주문 조회 - 플랫 데이터 스트리밍(전체 export 용)
+       List로 한번에 올리지 않고 fetch size 단위로 커서를 따라가며 한 행씩 읽음
+       o.id 순으로 정렬 -> 같은 주문의 행이 연속으로 나오므로 앞에서부터 묶을 수 있음
+       반드시 트랜잭션 안에서 사용하고 try-with-resources로 닫아야 함 */
+    public Stream<OrderFlatDto> streamAllByDto_flat() {
+        return em.createQuery("select new jpabook.jpashop.repository.order.query.OrderFlatDto(" +
+                        "o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
+                        " from Order o" +
+                        " join o.member m" +
+                        " join o.delivery d" +
+                        " join o.orderItems oi" +
+                        " join oi.item i" +
+                        " order by o.id", OrderFlatDto.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
     }
 
     private List<OrderQueryDto> findOrders() {
@@ -0,0 +1,16 @@
+package jpabook.jpashop.repository.order.query;
+
+import lombok.Data;
+
+@Data
+public class OrderTotalDto {
+    private Long orderId;
+    private long totalPrice;
+    private long itemCount;
+
+    public OrderTotalDto(Long orderId, long totalPrice, long itemCount) {
+        this.orderId = orderId;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+}
@@ -13,12 +13,17 @@ public class OrderSimpleQueryDto {
     private LocalDateTime orderDate;
     private OrderStatus orderStatus;
     private Address address;
+    private int totalPrice;
+    private int itemCount;
 
-    public OrderSimpleQueryDto(Long orderId, String name, LocalDateTime orderDate, OrderStatus orderStatus, Address address) {
+    public OrderSimpleQueryDto(Long orderId, String name, LocalDateTime orderDate, OrderStatus orderStatus, Address address,
+                               int totalPrice, int itemCount) {
         this.orderId = orderId;
         this.name = name;
         this.orderDate = orderDate;
         this.orderStatus = orderStatus;
         this.address = address;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
     }
 }
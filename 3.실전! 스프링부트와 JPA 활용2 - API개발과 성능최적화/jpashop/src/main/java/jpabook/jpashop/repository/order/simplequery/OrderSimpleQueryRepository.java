@@ -17,7 +17,7 @@ public class OrderSimpleQueryRepository {
     public List<OrderSimpleQueryDto> findOrderDtos() {
         return em.createQuery(
                         "select new jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto(" +
-                                "o.id, m.name, o.orderDate, o.status, d.address)" +
+                                "o.id, m.name, o.orderDate, o.status, d.address, o.totalPrice, o.itemCount)" +
                                 "from Order o" +
                                 " join o.member m" +
                                 " join o.delivery d", OrderSimpleQueryDto.class)
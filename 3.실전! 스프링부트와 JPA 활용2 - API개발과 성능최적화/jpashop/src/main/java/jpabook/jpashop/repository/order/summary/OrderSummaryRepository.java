@@ -0,0 +1,150 @@
+package jpabook.jpashop.repository.order.summary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.OrderSummary;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryRepository {
+
+    private final EntityManager em;
+
+    public void save(OrderSummary summary) {
+        em.persist(summary);
+    }
+
+    public OrderSummary findOne(Long orderId) {
+        return em.find(OrderSummary.class, orderId);
+    }
+
+    /* 회원 이름 변경 -> 해당 회원의 요약 행만 갱신 (member_id 인덱스) */
+    public int updateMemberName(Long memberId, String memberName) {
+        return em.createQuery("update OrderSummary s set s.memberName = :memberName where s.memberId = :memberId")
+                .setParameter("memberName", memberName)
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
+
+    /* 주문 일괄 취소 -> 요약 상태도 함께 (아직 backfill 되지 않은 주문은 rebuild에서 반영) */
+    public int cancelAll(List<Long> orderIds) {
+        return em.createQuery("update OrderSummary s set s.status = :cancel where s.orderId in :ids")
+                .setParameter("cancel", OrderStatus.CANCEL)
+                .setParameter("ids", orderIds)
+                .executeUpdate();
+    }
+
+    /**
+     * 단일 테이블 조회 + 키셋 페이징 (order_id 순)
+     * 조건이 있으면 (status, order_id) / (member_id, order_id) 인덱스 범위 스캔
+     */
+    public List<OrderSummaryDto> findSummaries(OrderStatus status, Long memberId, Long lastOrderId, int limit) {
+        String jpql = "select new jpabook.jpashop.repository.order.summary.OrderSummaryDto(" +
+                "s.orderId, s.memberName, s.orderDate, s.status, s.address, s.itemCount, s.totalPrice)" +
+                " from OrderSummary s" +
+                " where 1 = 1";
+        if (status != null) {
+            jpql += " and s.status = :status";
+        }
+        if (memberId != null) {
+            jpql += " and s.memberId = :memberId";
+        }
+        if (lastOrderId != null) {
+            jpql += " and s.orderId > :lastOrderId";
+        }
+        jpql += " order by s.orderId";
+
+        TypedQuery<OrderSummaryDto> query = em.createQuery(jpql, OrderSummaryDto.class)
+                .setMaxResults(limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (memberId != null) {
+            query.setParameter("memberId", memberId);
+        }
+        if (lastOrderId != null) {
+            query.setParameter("lastOrderId", lastOrderId);
+        }
+        return query.getResultList();
+    }
+
+    //== 재생성 / 정합성 검사 ==//
+
+    public Long findMaxOrderId() {
+        return em.createQuery("select coalesce(max(o.id), 0) from Order o", Long.class)
+                .getSingleResult();
+    }
+
+    /* order_id 범위의 요약 행을 지우고 원본 테이블에서 다시 계산해서 insert (SQL 2번)
+       synchronized entity = OrderSummary -> 다른 엔티티의 2차 캐시 리전은 비우지 않음 */
+    public int rebuildRange(long fromOrderId, long toOrderId) {
+        em.createNativeQuery("delete from order_summary where order_id between :fromId and :toId")
+                .setParameter("fromId", fromOrderId)
+                .setParameter("toId", toOrderId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(OrderSummary.class)
+                .executeUpdate();
+        return em.createNativeQuery(
+                        "insert into order_summary" +
+                                " (order_id, member_id, member_name, city, street, zipcode, status, order_date, item_count, total_price)" +
+                                " select o.order_id, m.member_id, m.name, d.city, d.street, d.zipcode, o.status, o.order_date," +
+                                " coalesce(sum(oi.count), 0), coalesce(sum(oi.order_price * oi.count), 0)" +
+                                " from orders o" +
+                                " join member m on m.member_id = o.member_id" +
+                                " join delivery d on d.delivery_id = o.delivery_id" +
+                                " left join order_item oi on oi.order_id = o.order_id" +
+                                " where o.order_id between :fromId and :toId" +
+                                " group by o.order_id, m.member_id, m.name, d.city, d.street, d.zipcode, o.status, o.order_date")
+                .setParameter("fromId", fromOrderId)
+                .setParameter("toId", toOrderId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(OrderSummary.class)
+                .executeUpdate();
+    }
+
+    /* 요약 행이 없거나 원본과 값이 다른 주문 id */
+    @SuppressWarnings("unchecked")
+    public List<Long> findMismatchedOrderIds(int limit) {
+        List<Number> ids = em.createNativeQuery(
+                        "select o.order_id" +
+                                " from orders o" +
+                                " join member m on m.member_id = o.member_id" +
+                                " join delivery d on d.delivery_id = o.delivery_id" +
+                                " left join (select order_id, sum(count) item_count, sum(order_price * count) total_price" +
+                                "            from order_item group by order_id) oi on oi.order_id = o.order_id" +
+                                " left join order_summary s on s.order_id = o.order_id" +
+                                " where s.order_id is null" +
+                                " or s.member_id is distinct from m.member_id" +
+                                " or s.member_name is distinct from m.name" +
+                                " or s.city is distinct from d.city" +
+                                " or s.street is distinct from d.street" +
+                                " or s.zipcode is distinct from d.zipcode" +
+                                " or s.status is distinct from o.status" +
+                                " or s.order_date is distinct from o.order_date" +
+                                " or s.item_count <> coalesce(oi.item_count, 0)" +
+                                " or s.total_price <> coalesce(oi.total_price, 0)" +
+                                " order by o.order_id")
+                .setMaxResults(limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /* 원본 주문이 없는 요약 행 */
+    @SuppressWarnings("unchecked")
+    public List<Long> findOrphanedOrderIds(int limit) {
+        List<Number> ids = em.createNativeQuery(
+                        "select s.order_id from order_summary s" +
+                                " left join orders o on o.order_id = s.order_id" +
+                                " where o.order_id is null" +
+                                " order by s.order_id")
+                .setMaxResults(limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+}
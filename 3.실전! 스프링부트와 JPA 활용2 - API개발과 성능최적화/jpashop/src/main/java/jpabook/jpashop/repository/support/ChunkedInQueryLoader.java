@@ -0,0 +1,148 @@
+package jpabook.jpashop.repository.support;
+
+import jakarta.annotation.PreDestroy;
+import jpabook.jpashop.monitoring.QueryCounter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * where x.id in :ids 대량 조회
+ * - id를 고정 크기(16/64/256/1000) 묶음으로 나누고 마지막 묶음은 마지막 id를 반복해서 채움
+ *   -> IN 절 파라미터 개수가 4가지로 고정되어 statement/plan 캐시 재사용
+ * - 묶음이 많으면 작업 스레드마다 읽기 전용 트랜잭션(별도 커넥션)을 열어 동시에 조회 후 합침
+ *   작업 스레드의 SQL 수는 호출한 스레드의 QueryCounter에 더함 (@QueryBudget 집계 포함)
+ * - 호출한 쪽이 쓰기 트랜잭션 안이면 커밋 전 변경이 보여야 하므로 항상 순서대로 조회
+ */
+@Component
+public class ChunkedInQueryLoader {
+
+    static final int[] CHUNK_SIZES = {16, 64, 256, 1000};
+    private static final int MAX_CHUNK_SIZE = CHUNK_SIZES[CHUNK_SIZES.length - 1];
+
+    static final int PARALLEL_THRESHOLD = 4;    // 묶음 4개 이상부터 병렬 조회
+    private static final int PARALLELISM = 4;   // 커넥션 풀(기본 10) 여유를 남겨둠
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+
+    public ChunkedInQueryLoader(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(PARALLELISM, r -> {
+            Thread t = new Thread(r, "in-query-loader-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @param query 묶음 id 목록 -> 조회 결과. 공유 EntityManager(주입받은 em)로 조회하고,
+     *              병렬 조회 시 작업 트랜잭션이 끝난 뒤 사용하므로 결과는 영속성 컨텍스트와 무관한 DTO여야 함
+     */
+    public <T> List<T> load(List<Long> ids, Function<List<Long>, List<T>> query) {
+        List<List<Long>> chunks = split(ids);
+        List<T> result = new ArrayList<>();
+
+        if (chunks.size() < PARALLEL_THRESHOLD || inWriteTransaction()) {
+            for (List<Long> chunk : chunks) {
+                result.addAll(query.apply(chunk));
+            }
+            return result;
+        }
+
+        QueryCounter.Counts callerCounts = QueryCounter.current();
+        List<CompletableFuture<ChunkResult<T>>> futures = new ArrayList<>(chunks.size());
+        for (List<Long> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> loadChunk(chunk, query, callerCounts != null), executor));
+        }
+        try {
+            for (CompletableFuture<ChunkResult<T>> future : futures) {
+                ChunkResult<T> chunkResult = future.join();
+                result.addAll(chunkResult.getRows());
+                if (callerCounts != null) {
+                    callerCounts.add(chunkResult.getCounts());
+                }
+            }
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    /* 작업 스레드 - 묶음 하나 = 읽기 전용 트랜잭션 하나 */
+    private <T> ChunkResult<T> loadChunk(List<Long> chunk, Function<List<Long>, List<T>> query, boolean counting) {
+        QueryCounter.Counts counts = counting ? QueryCounter.start() : null;
+        try {
+            return new ChunkResult<>(readOnlyTransaction.execute(s -> query.apply(chunk)), counts);
+        } finally {
+            if (counting) {
+                QueryCounter.stop();
+            }
+        }
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ChunkResult<T> {
+        private final List<T> rows;
+        private final QueryCounter.Counts counts;  // 집계 중이 아니면 null
+    }
+
+    /* 1000개씩 자르고, 남은 id는 16/64/256/1000 중 들어가는 가장 작은 크기로 채움 */
+    static List<List<Long>> split(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        int from = 0;
+        while (from < ids.size()) {
+            int size = Math.min(ids.size() - from, MAX_CHUNK_SIZE);
+            int paddedSize = paddedSize(size);
+            List<Long> chunk = new ArrayList<>(paddedSize);
+            chunk.addAll(ids.subList(from, from + size));
+            Long last = chunk.get(size - 1);
+            while (chunk.size() < paddedSize) {
+                chunk.add(last);
+            }
+            chunks.add(chunk);
+            from += size;
+        }
+        return chunks;
+    }
+
+    static int paddedSize(int size) {
+        for (int chunkSize : CHUNK_SIZES) {
+            if (size <= chunkSize) {
+                return chunkSize;
+            }
+        }
+        return MAX_CHUNK_SIZE;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
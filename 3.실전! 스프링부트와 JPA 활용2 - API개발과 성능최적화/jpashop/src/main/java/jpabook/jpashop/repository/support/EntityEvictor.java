@@ -0,0 +1,63 @@
+package jpabook.jpashop.repository.support;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 벌크 UPDATE 후 정리 - 변경된 행의 엔티티만 처리, em.clear() 처럼 다른 엔티티까지 준영속으로 만들지 않음
+ * - 영속성 컨텍스트: 이미 올라와 있는 엔티티만 DB 값으로 다시 읽음
+ *   (detach 하면 cascade로 연결된 부모 엔티티가 flush 될 때 준영속 엔티티 오류)
+ * - 2차 캐시: 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityEvictor {
+
+    private final EntityManager em;
+
+    public void evict(Class<?> type, List<Long> ids) {
+        evictFromCache(type, ids);
+        refreshManaged(type, ids);
+    }
+
+    /* 영속성 컨텍스트에 있는 엔티티만 찾아서 refresh (없는 id는 로딩하지 않음) */
+    private void refreshManaged(Class<?> type, List<Long> ids) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(type);
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        if (persistenceContext.getNumberOfManagedEntities() == 0) {
+            return;
+        }
+        for (Long id : ids) {
+            EntityKey key = session.generateEntityKey(id, persister);
+            Object entity = persistenceContext.getEntity(key);
+            if (entity != null) {
+                session.refresh(entity);
+            }
+        }
+    }
+
+    /* 2차 캐시 - 지금, 그리고 커밋 후에 한 번 더 제거 (그 사이 다른 트랜잭션이 이전 값을 다시 올릴 수 있음) */
+    private void evictFromCache(Class<?> type, List<Long> ids) {
+        Cache cache = em.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(type, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(id -> cache.evict(type, id));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package jpabook.jpashop.repository.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 부모 id 순으로 정렬된 플랫 데이터(1:N 조인 결과)를 부모-자식 트리로 묶는다.
+ * - 같은 부모의 행은 연속으로 나온다고 가정 (쿼리에 order by 부모 id 필수)
+ * - 직전 행의 부모 키와만 비교 -> HashMap, 행마다 임시 key 객체 생성 없음
+ * - 한 번만 순회하고 SQL 정렬 순서를 그대로 유지
+ *
+ * @param <R> 플랫 행 (ex. OrderFlatDto)
+ * @param <P> 부모 (ex. OrderQueryDto)
+ * @param <C> 자식 (ex. OrderItemQueryDto)
+ */
+public class FlatRowAssembler<R, P, C> {
+
+    private final Function<? super R, ?> parentKey;
+    private final Function<? super R, ? extends P> parentFactory;
+    private final Function<? super R, ? extends C> childFactory;
+    private final BiConsumer<? super P, ? super C> addChild;
+
+    public FlatRowAssembler(Function<? super R, ?> parentKey,
+                            Function<? super R, ? extends P> parentFactory,
+                            Function<? super R, ? extends C> childFactory,
+                            BiConsumer<? super P, ? super C> addChild) {
+        this.parentKey = parentKey;
+        this.parentFactory = parentFactory;
+        this.childFactory = childFactory;
+        this.addChild = addChild;
+    }
+
+    /* 전체 결과를 List로 반환 */
+    public List<P> assemble(List<? extends R> rows) {
+        List<P> result = new ArrayList<>();
+        assemble(rows.iterator(), result::add);
+        return result;
+    }
+
+    /* 부모 하나가 완성될 때마다 sink로 넘김 -> 스트리밍에서 메모리에 부모 1건만 유지 */
+    public void assemble(Iterator<? extends R> rows, Consumer<? super P> sink) {
+        Object currentKey = null;
+        P current = null;
+        while (rows.hasNext()) {
+            R row = rows.next();
+            Object key = parentKey.apply(row);
+            if (current == null || !Objects.equals(currentKey, key)) {
+                if (current != null) {
+                    sink.accept(current);
+                }
+                currentKey = key;
+                current = parentFactory.apply(row);
+            }
+            addChild.accept(current, childFactory.apply(row));
+        }
+        if (current != null) {
+            sink.accept(current);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package jpabook.jpashop.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 카테고리 트리 노드 (불변)
+ * 부모 참조, 깊이, 경로를 미리 계산해 둠 -> 조상/자손 탐색에 DB 조회 없음
+ */
+public final class CategoryNode {
+
+    private final Long id;
+    private final String name;
+    private final CategoryNode parent;
+    private final int depth;
+    private final String path;
+    private final List<CategoryNode> children = new ArrayList<>();     // CategoryTree 생성 중에만 추가
+    private final List<CategoryNode> childrenView = Collections.unmodifiableList(children);
+
+    CategoryNode(Long id, String name, CategoryNode parent, int depth, String path) {
+        this.id = id;
+        this.name = name;
+        this.parent = parent;
+        this.depth = depth;
+        this.path = path;
+    }
+
+    void addChild(CategoryNode child) {
+        children.add(child);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CategoryNode getParent() {
+        return parent;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public List<CategoryNode> getChildren() {
+        return childrenView;
+    }
+
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    /* 루트부터 자기 자신까지 */
+    public List<CategoryNode> getAncestry() {
+        CategoryNode[] nodes = new CategoryNode[depth + 1];
+        for (CategoryNode node = this; node != null; node = node.parent) {
+            nodes[node.depth] = node;
+        }
+        return List.of(nodes);
+    }
+}
@@ -0,0 +1,117 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.Category;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.CategoryRepository;
+import jpabook.jpashop.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ItemRepository itemRepository;
+    private final CategoryTreeCache categoryTreeCache;
+
+    /**
+     * 카테고리 생성
+     * @param parentId null -> 루트, 없는 id면 IllegalArgumentException
+     */
+    @Transactional
+    public Long create(String name, Long parentId) {
+        Category category = new Category();
+        category.setName(name);
+        category.setParent(findParent(parentId));
+        categoryRepository.save(category);
+        category.assignPath();      // id가 정해진 뒤 경로 지정
+        refreshTreeAfterCommit();
+        return category.getId();
+    }
+
+    @Transactional
+    public void rename(Long categoryId, String name) {
+        categoryRepository.findOne(categoryId).setName(name);
+        refreshTreeAfterCommit();
+    }
+
+    /**
+     * 하위 트리째 이동 - 이동하는 카테고리와 자손의 경로 앞부분 교체
+     * @param newParentId null -> 루트로 이동, 없는 id면 IllegalArgumentException
+     */
+    @Transactional
+    public void move(Long categoryId, Long newParentId) {
+        Category category = categoryRepository.findOne(categoryId);
+        Category newParent = findParent(newParentId);
+        if (newParent != null && category.isAncestorOf(newParent)) {
+            throw new IllegalStateException("자기 자신이나 하위 카테고리 아래로 이동할 수 없습니다.");
+        }
+
+        String oldPrefix = category.getPath();
+        int oldDepth = category.getDepth();
+        List<Category> subtree = categoryRepository.findSubtree(oldPrefix);
+
+        category.setParent(newParent);
+        category.assignPath();
+        String newPrefix = category.getPath();
+        int depthDelta = category.getDepth() - oldDepth;
+        for (Category c : subtree) {
+            if (c != category) {
+                c.replacePathPrefix(oldPrefix, newPrefix, depthDelta);
+            }
+        }
+        refreshTreeAfterCommit();
+    }
+
+    @Transactional
+    public void addItem(Long categoryId, Long itemId) {
+        Category category = categoryRepository.findOne(categoryId);
+        category.addItem(itemRepository.findOne(itemId));
+    }
+
+    public CategoryTree getTree() {
+        return categoryTreeCache.get();
+    }
+
+    /* 카테고리(하위 포함)의 상품 - 경로는 메모리 트리에서 꺼내고 상품은 쿼리 1번 */
+    public List<Item> findItemsUnder(Long categoryId, int offset, int limit) {
+        CategoryNode node = categoryTreeCache.get().get(categoryId);
+        if (node == null) {
+            return List.of();
+        }
+        return categoryRepository.findItemsUnder(node.getPath(), offset, limit);
+    }
+
+    /* null -> 루트, 없는 id를 루트로 바꾸지 않음 */
+    private Category findParent(Long parentId) {
+        if (parentId == null) {
+            return null;
+        }
+        Category parent = categoryRepository.findOne(parentId);
+        if (parent == null) {
+            throw new IllegalArgumentException("상위 카테고리가 없습니다. parentId=" + parentId);
+        }
+        return parent;
+    }
+
+    /* 커밋된 내용으로 트리 교체 (롤백되면 그대로) */
+    private void refreshTreeAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            categoryTreeCache.refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                categoryTreeCache.refresh();
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.CategoryRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ * 한 번 만들면 바뀌지 않음 -> 변경 시 새 트리를 만들어 통째로 교체 (CategoryTreeCache)
+ */
+public final class CategoryTree {
+
+    public static final CategoryTree EMPTY = new CategoryTree(Map.of(), List.of());
+
+    private final Map<Long, CategoryNode> nodes;
+    private final List<CategoryNode> roots;
+
+    private CategoryTree(Map<Long, CategoryNode> nodes, List<CategoryNode> roots) {
+        this.nodes = nodes;
+        this.roots = roots;
+    }
+
+    /**
+     * @param rows 부모가 자식보다 먼저 오는 순서 (depth 순)
+     */
+    public static CategoryTree of(List<CategoryRow> rows) {
+        Map<Long, CategoryNode> nodes = new HashMap<>(rows.size() * 4 / 3 + 1);
+        List<CategoryNode> roots = new ArrayList<>();
+        for (CategoryRow row : rows) {
+            CategoryNode parent = row.getParentId() == null ? null : nodes.get(row.getParentId());
+            if (row.getParentId() != null && parent == null) {
+                throw new IllegalStateException("부모 카테고리가 먼저 로딩되지 않음. id=" + row.getId());
+            }
+            CategoryNode node = new CategoryNode(row.getId(), row.getName(), parent, row.getDepth(), row.getPath());
+            nodes.put(node.getId(), node);
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.addChild(node);
+            }
+        }
+        return new CategoryTree(Collections.unmodifiableMap(nodes), Collections.unmodifiableList(roots));
+    }
+
+    public CategoryNode get(Long id) {
+        return nodes.get(id);
+    }
+
+    public List<CategoryNode> getRoots() {
+        return roots;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /* 자기 자신 + 하위 카테고리 id (깊이 우선) */
+    public List<Long> getSubtreeIds(Long id) {
+        CategoryNode node = nodes.get(id);
+        if (node == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        collect(node, ids);
+        return ids;
+    }
+
+    private void collect(CategoryNode node, List<Long> ids) {
+        ids.add(node.getId());
+        for (CategoryNode child : node.getChildren()) {
+            collect(child, ids);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.CategoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 트리 메모리 캐시
+ * - 조회: 현재 스냅샷을 그대로 반환 (잠금 없음)
+ * - 갱신: 트리 전체를 쿼리 1번으로 읽어 새 스냅샷을 만든 뒤 참조만 교체 -> 읽는 쪽은 항상 완성된 트리만 봄
+ */
+@Component
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate loadTx;
+    private final AtomicReference<CategoryTree> tree = new AtomicReference<>();
+
+    public CategoryTreeCache(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        // 커밋 직후(afterCommit)에도 호출되므로 항상 별도의 읽기 전용 트랜잭션에서 조회
+        this.loadTx = new TransactionTemplate(transactionManager);
+        this.loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTx.setReadOnly(true);
+    }
+
+    public CategoryTree get() {
+        CategoryTree current = tree.get();
+        return current != null ? current : refresh();
+    }
+
+    /* 갱신은 한 번에 하나씩 -> 먼저 시작한 (오래된) 조회 결과가 나중 결과를 덮어쓰지 않음 */
+    public synchronized CategoryTree refresh() {
+        CategoryTree loaded = loadTx.execute(s -> CategoryTree.of(categoryRepository.findAllRows()));
+        tree.set(loaded);
+        return loaded;
+    }
+}
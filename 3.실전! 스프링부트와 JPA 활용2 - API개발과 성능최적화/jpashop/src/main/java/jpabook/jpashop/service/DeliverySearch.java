@@ -0,0 +1,21 @@
+package jpabook.jpashop.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 배송 완료 대상 조건 (배송 준비 상태 중에서)
+ */
+@Getter @Setter
+public class DeliverySearch {
+
+    private LocalDateTime orderedBefore;    // 이 시각 이전 주문
+    private String city;                    // 배송지 도시
+
+    public boolean hasCriteria() {
+        return orderedBefore != null || StringUtils.hasText(city);
+    }
+}
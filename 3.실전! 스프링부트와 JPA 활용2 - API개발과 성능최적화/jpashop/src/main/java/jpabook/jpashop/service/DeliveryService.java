@@ -0,0 +1,119 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.Delivery;
+import jpabook.jpashop.repository.DeliveryRepository;
+import jpabook.jpashop.repository.support.EntityEvictor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 배송 상태 일괄 변경
+ * - id 1000개씩 벌크 UPDATE 1번 (엔티티 로딩/변경감지 없음)
+ * - 변경된 배송만 영속성 컨텍스트/2차 캐시에서 제거
+ * - 묶음마다 트랜잭션 커밋 -> 잠금/undo 크기 제한, 실패해도 앞 묶음은 유지 (호출한 쪽 트랜잭션이 있으면 그 안에서 실행)
+ * - 묶음마다 진행률/처리량 로그 (커밋된 양)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final DeliveryRepository deliveryRepository;
+    private final EntityEvictor entityEvictor;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 배송 완료 - 지정한 배송 id
+     */
+    public BatchResult complete(Collection<Long> deliveryIds) {
+        List<Long> ids = deliveryIds.stream().distinct().sorted().toList();
+        Progress progress = new Progress(ids.size());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            progress.chunkDone(chunk.size(), completeChunk(chunk));
+        }
+        return progress.finish();
+    }
+
+    /**
+     * 배송 완료 - 조건에 맞는 배송 준비 전체
+     * 대상 id를 1000개씩 키셋으로 읽으면서 바로 UPDATE
+     * 조건이 하나도 없으면 예외 (배송 준비 전체가 완료되는 것 방지)
+     */
+    public BatchResult completeMatching(DeliverySearch search) {
+        if (!search.hasCriteria()) {
+            throw new IllegalArgumentException("배송 완료 조건이 없습니다. orderedBefore 또는 city를 지정해 주세요.");
+        }
+        Progress progress = new Progress(-1);
+        Long lastId = null;
+        while (true) {
+            List<Long> chunk = deliveryRepository.findReadyIds(search, lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            progress.chunkDone(chunk.size(), completeChunk(chunk));
+            lastId = chunk.get(chunk.size() - 1);
+        }
+        return progress.finish();
+    }
+
+    /* 묶음 하나 = 트랜잭션 하나 */
+    private int completeChunk(List<Long> chunk) {
+        return transactionTemplate.execute(s -> {
+            int updated = deliveryRepository.complete(chunk);
+            entityEvictor.evict(Delivery.class, chunk);
+            return updated;
+        });
+    }
+
+    /* 진행률/처리량 집계 */
+    private static class Progress {
+        private final int total;        // 전체 요청 수 (조건 검색은 미리 알 수 없음 -> -1)
+        private final long start = System.nanoTime();
+        private int processed;
+        private int updated;
+        private int chunks;
+
+        Progress(int total) {
+            this.total = total;
+        }
+
+        void chunkDone(int size, int updatedRows) {
+            processed += size;
+            updated += updatedRows;
+            chunks++;
+            log.info("delivery complete: chunk {}, processed {}{}, updated {}, {} rows/s",
+                    chunks, processed, total < 0 ? "" : "/" + total, updated, rowsPerSecond());
+        }
+
+        BatchResult finish() {
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            return new BatchResult(processed, updated, chunks, elapsedMillis, rowsPerSecond());
+        }
+
+        private long rowsPerSecond() {
+            long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+            return processed * 1_000_000_000L / elapsedNanos;
+        }
+    }
+
+    /* 일괄 변경 결과 */
+    @Getter
+    @AllArgsConstructor
+    public static class BatchResult {
+        private int requested;      // 대상 배송 수
+        private int updated;        // 실제 변경 수 (이미 완료된 배송 제외)
+        private int chunks;         // 실행한 UPDATE 수
+        private long elapsedMillis;
+        private long rowsPerSecond;
+    }
+}
@@ -0,0 +1,23 @@
+package jpabook.jpashop.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품 일괄 변경 요청 한 행
+ * - price      : 새 가격 (null -> 가격 유지)
+ * - stockDelta : 재고 증감 (입고 +, 차감 -)
+ * - version    : 이 버전일 때만 변경 (null -> 버전 확인 안 함)
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBulkRow {
+
+    private Long itemId;
+    private Integer price;
+    private int stockDelta;
+    private Long version;
+}
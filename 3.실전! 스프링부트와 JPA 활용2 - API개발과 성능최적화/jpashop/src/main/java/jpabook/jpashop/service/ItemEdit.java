@@ -0,0 +1,22 @@
+package jpabook.jpashop.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 수정 화면 입력 - 화면을 열 때 읽은 값(original)과 사용자가 입력한 값
+ * 재고는 (stockQuantity - originalStockQuantity) 만큼만 반영 -> 그 사이 주문으로 바뀐 재고를 덮어쓰지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class ItemEdit {
+
+    private int originalPrice;
+    private int price;
+    private int originalStockQuantity;
+    private int stockQuantity;
+
+    public int getStockDelta() {
+        return stockQuantity - originalStockQuantity;
+    }
+}
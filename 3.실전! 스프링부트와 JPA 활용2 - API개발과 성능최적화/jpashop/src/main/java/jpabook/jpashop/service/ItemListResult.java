@@ -0,0 +1,22 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.ItemListDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 목록 한 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class ItemListResult {
+
+    private List<ItemListDto> items;
+    private Long nextCursor;    // 다음 페이지 요청 시 cursor, 마지막 페이지면 null
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,40 +1,265 @@
 package jpabook.jpashop.service;
 
+import jpabook.jpashop.domain.exception.ItemConflictException;
+import jpabook.jpashop.domain.exception.NotEnoughStockException;
+import jpabook.jpashop.domain.item.Album;
+import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.item.Movie;
+import jpabook.jpashop.repository.ItemListDto;
 import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.ItemVersionRow;
+import jpabook.jpashop.repository.support.EntityEvictor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ItemService {
 
+    static final int MAX_EDIT_ATTEMPTS = 5;
+    static final long EDIT_RETRY_BACKOFF_MILLIS = 10;
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityEvictor entityEvictor;
+
+    private static final Map<String, Class<? extends Item>> ITEM_TYPES = Map.of(
+            "B", Book.class,
+            "A", Album.class,
+            "M", Movie.class);
 
     @Transactional
     public void saveItem(Item item) {
         itemRepository.save(item);
     }
 
-    @Transactional
-    public void updateItem(Long itemId, int price, int stockQuantity) {
-        // 영속상태이기 때문에 save할 필요 X
-        // 작업이 끝나면 Spring의 @Transactional에 의해 commit -> flush(영속성 엔티티중 변경된것 감지해서 update)
+    /**
+     * 상품 수정 (수정 화면)
+     * - 가격 : 화면을 연 뒤 다른 사용자가 다른 값으로 바꿨으면 충돌 (ItemConflictException)
+     * - 재고 : 화면에서 바꾼 만큼만 증감 -> 그 사이 주문으로 줄어든 재고를 덮어쓰지 않음
+     * 읽은 뒤 커밋 전에 다른 트랜잭션이 먼저 수정하면(@Version 불일치) 새 트랜잭션에서 다시 읽어 재시도
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)    // 시도마다 새 트랜잭션
+    public void updateItem(Long itemId, ItemEdit edit) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(s -> applyEdit(itemId, edit));
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_EDIT_ATTEMPTS) {
+                    throw new ItemConflictException("다른 수정과 계속 충돌합니다. 다시 시도해 주세요.", e);
+                }
+                log.debug("item {} edit conflict, retry {}/{}", itemId, attempt, MAX_EDIT_ATTEMPTS);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void applyEdit(Long itemId, ItemEdit edit) {
+        Item item = itemRepository.findLatest(itemId);
+        if (item == null) {
+            throw new IllegalArgumentException("상품이 없습니다. itemId=" + itemId);
+        }
+        if (item.getPrice() != edit.getOriginalPrice() && item.getPrice() != edit.getPrice()) {
+            throw new ItemConflictException("다른 사용자가 가격을 변경했습니다. 현재 가격: " + item.getPrice());
+        }
+        int stockQuantity = item.getStockQuantity() + edit.getStockDelta();
+        if (stockQuantity < 0) {
+            throw new NotEnoughStockException("need more stock");
+        }
+        item.setPrice(edit.getPrice());
+        item.setStockQuantity(stockQuantity);
+        itemRepository.flush();     // update ... where version = ? -> 충돌이면 여기서 예외
+    }
+
+    // 동시에 충돌한 요청끼리 같은 순간에 다시 부딪히지 않도록 조금씩 다르게 대기
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(EDIT_RETRY_BACKOFF_MILLIS * attempt + ThreadLocalRandom.current().nextLong(EDIT_RETRY_BACKOFF_MILLIS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemConflictException("상품 수정이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 가격/재고 일괄 변경
+     * - 1000행씩 JDBC batch UPDATE (엔티티 로딩/변경감지 없음), 변경된 상품만 2차 캐시/영속성 컨텍스트 정리
+     * - 변경하지 못한 행은 원인과 함께 conflicts로 반환, 나머지 행은 반영
+     * - 묶음마다 커밋 -> 뒤 묶음이 DB 오류로 실패해도 앞 묶음은 유지, 실패한 묶음의 행은 FAILED
+     *   (호출한 쪽 트랜잭션이 있으면 그 안에서 실행 -> 오류는 예외로 전파, 전체 롤백)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)     // 묶음마다 새 트랜잭션 (호출한 쪽 트랜잭션이 있으면 참여)
+    public BulkUpdateResult bulkUpdate(List<ItemBulkRow> rows) {
+        long start = System.nanoTime();
+        boolean joined = TransactionSynchronizationManager.isActualTransactionActive();
+        List<Conflict> conflicts = new ArrayList<>();
+        List<ItemBulkRow> valid = validate(rows, conflicts);
+
+        int updated = 0;
+        int chunks = 0;
+        for (int from = 0; from < valid.size(); from += BULK_CHUNK_SIZE) {
+            List<ItemBulkRow> chunk = valid.subList(from, Math.min(valid.size(), from + BULK_CHUNK_SIZE));
+            List<Conflict> chunkConflicts = new ArrayList<>();
+            try {
+                updated += transactionTemplate.execute(s -> updateChunk(chunk, chunkConflicts));
+                conflicts.addAll(chunkConflicts);   // 커밋된 묶음의 충돌만 반영
+            } catch (DataAccessException e) {
+                if (joined) {
+                    throw e;
+                }
+                log.warn("item bulk update: chunk {} rolled back ({} rows)", chunks + 1, chunk.size(), e);
+                chunk.forEach(row -> conflicts.add(new Conflict(row.getItemId(), ConflictReason.FAILED, null)));
+            }
+            chunks++;
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("item bulk update: requested {}, updated {}, conflicts {}, {} chunks in {} ms",
+                rows.size(), updated, conflicts.size(), chunks, elapsedMillis);
+        return new BulkUpdateResult(rows.size(), updated, chunks, elapsedMillis, conflicts);
+    }
+
+    /* 형식 오류, 같은 상품 중복 행(두 번째부터) 제외 */
+    private static List<ItemBulkRow> validate(List<ItemBulkRow> rows, List<Conflict> conflicts) {
+        List<ItemBulkRow> valid = new ArrayList<>(rows.size());
+        Set<Long> seen = new HashSet<>();
+        for (ItemBulkRow row : rows) {
+            if (row.getItemId() == null || (row.getPrice() != null && row.getPrice() < 0)
+                    || (row.getPrice() == null && row.getStockDelta() == 0)) {
+                conflicts.add(new Conflict(row.getItemId(), ConflictReason.INVALID, null));
+            } else if (!seen.add(row.getItemId())) {
+                conflicts.add(new Conflict(row.getItemId(), ConflictReason.DUPLICATE, null));
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    /* 묶음 하나 = 트랜잭션 하나 */
+    private int updateChunk(List<ItemBulkRow> chunk, List<Conflict> conflicts) {
+        itemRepository.flush();     // 호출한 쪽 트랜잭션에 참여한 경우 영속성 컨텍스트의 변경을 먼저 반영
+        int[] counts = itemRepository.bulkUpdate(chunk);
+        List<Long> updatedIds = new ArrayList<>(chunk.size());
+        List<ItemBulkRow> failed = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (counts[i] == 0) {
+                failed.add(chunk.get(i));
+            } else {
+                updatedIds.add(chunk.get(i).getItemId());  // SUCCESS_NO_INFO(-2) 포함
+            }
+        }
+        if (!updatedIds.isEmpty()) {
+            entityEvictor.evict(Item.class, updatedIds);
+        }
+        if (!failed.isEmpty()) {
+            conflicts.addAll(explainFailures(failed));
+        }
+        return updatedIds.size();
+    }
 
-        Item findItem = itemRepository.findOne(itemId);
-        findItem.setPrice(price);;
-        findItem.setStockQuantity(stockQuantity);
+    /* 변경되지 않은 행 -> 현재 버전/재고로 원인 판단 (쿼리 1번) */
+    private List<Conflict> explainFailures(List<ItemBulkRow> failed) {
+        Map<Long, ItemVersionRow> current = new HashMap<>();
+        for (ItemVersionRow row : itemRepository.findVersions(failed.stream().map(ItemBulkRow::getItemId).toList())) {
+            current.put(row.getId(), row);
+        }
+        List<Conflict> conflicts = new ArrayList<>(failed.size());
+        for (ItemBulkRow row : failed) {
+            ItemVersionRow item = current.get(row.getItemId());
+            if (item == null) {
+                conflicts.add(new Conflict(row.getItemId(), ConflictReason.NOT_FOUND, null));
+            } else if (row.getVersion() != null && !row.getVersion().equals(item.getVersion())) {
+                conflicts.add(new Conflict(row.getItemId(), ConflictReason.VERSION_MISMATCH, item.getVersion()));
+            } else {
+                conflicts.add(new Conflict(row.getItemId(), ConflictReason.NOT_ENOUGH_STOCK, item.getVersion()));
+            }
+        }
+        return conflicts;
     }
 
     public List<Item> findItems() {
         return itemRepository.findAll();
     }
 
+    /**
+     * 상품 목록 한 페이지 (DTO 조회)
+     * size + 1건을 읽어 다음 페이지 여부 판단 -> count 쿼리 없음
+     * @param dtype B/A/M, null -> 전체
+     */
+    public ItemListResult findItemPage(String dtype, Long cursor, int size) {
+        List<ItemListDto> items = itemRepository.findItemList(itemType(dtype), cursor, size + 1);
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items = items.subList(0, size);
+        }
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new ItemListResult(items, nextCursor);
+    }
+
     public Item findOne(Long id) {
         return itemRepository.findOne(id);
     }
+
+    public enum ConflictReason {
+        INVALID,            // itemId 없음, 음수 가격, 변경할 값 없음
+        DUPLICATE,          // 같은 상품이 요청에 두 번 이상 (첫 행만 반영)
+        NOT_FOUND,
+        VERSION_MISMATCH,   // 요청한 version 이후 다른 곳에서 변경됨
+        NOT_ENOUGH_STOCK,   // 재고가 음수가 됨
+        FAILED              // 이 행이 속한 묶음(1000행) 실행 중 DB 오류 -> 묶음 전체 롤백, 다시 요청 가능
+    }
+
+    /* 변경하지 못한 행 */
+    @Getter
+    @AllArgsConstructor
+    public static class Conflict {
+        private Long itemId;
+        private ConflictReason reason;
+        private Long currentVersion;    // 현재 버전 (확인한 경우)
+    }
+
+    /* 일괄 변경 결과 - 묶음마다 커밋되므로 updated는 이미 커밋된 상품 수, 실패한 묶음의 행은 conflicts(FAILED) */
+    @Getter
+    @AllArgsConstructor
+    public static class BulkUpdateResult {
+        private int requested;      // 요청 행 수
+        private int updated;        // 변경(커밋)된 상품 수
+        private int chunks;         // 실행한 JDBC batch 수
+        private long elapsedMillis;
+        private List<Conflict> conflicts;
+    }
+
+    private static Class<? extends Item> itemType(String dtype) {
+        if (dtype == null || dtype.isEmpty()) {
+            return null;
+        }
+        Class<? extends Item> type = ITEM_TYPES.get(dtype);
+        if (type == null) {
+            throw new IllegalArgumentException("지원하지 않는 상품 타입입니다. dtype=" + dtype);
+        }
+        return type;
+    }
 }
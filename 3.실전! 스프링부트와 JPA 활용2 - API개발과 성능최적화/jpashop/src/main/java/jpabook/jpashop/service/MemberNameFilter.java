@@ -0,0 +1,112 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.MemberNameRow;
+import jpabook.jpashop.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 회원 이름 중복 검사 앞단 필터 (Bloom filter)
+ * - mightContain == false : 확실히 새 이름 -> 가입 시 중복 조회 생략
+ * - true : 이미 있거나 오탐 -> DB 조회로 확인
+ * 중복의 최종 판단은 member.name unique 인덱스
+ * (가입 외 경로로 들어온 이름, 적재 중 가입 등으로 필터가 놓친 이름은 insert 시 제약 위반으로 걸러짐)
+ *
+ * 애플리케이션 시작 후 전체 이름을 id 순으로 WARM_UP_CHUNK 건씩 읽어 적재, 적재 전에는 항상 DB 조회
+ */
+@Slf4j
+@Component
+public class MemberNameFilter {
+
+    static final int WARM_UP_CHUNK = 10_000;
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter filter;    // 조회용, 적재 전 null
+    private volatile BloomFilter loading;   // 적재 중인 필터, 적재 중 가입한 이름도 같이 넣음
+
+    public MemberNameFilter(MemberRepository memberRepository, PlatformTransactionManager transactionManager,
+                            @Value("${jpashop.member-name-filter.enabled:true}") boolean enabled,
+                            @Value("${jpashop.member-name-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${jpashop.member-name-filter.fpp:0.01}") double fpp) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 이름으로 새 필터를 만들어 교체
+     * 크기는 max(예상 건수, 현재 회원 수 x 2) -> 회원이 예상보다 많아져 오탐률이 올라가면 다시 호출
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long members = readOnlyTx.execute(s -> memberRepository.count());
+        BloomFilter building = new BloomFilter(Math.max(expectedInsertions, members * 2), fpp);
+        loading = building;
+
+        long loaded = 0;
+        Long afterId = 0L;
+        while (true) {
+            Long cursor = afterId;
+            List<MemberNameRow> rows = readOnlyTx.execute(s ->
+                    memberRepository.findNameRows(cursor, Limit.of(WARM_UP_CHUNK)));
+            for (MemberNameRow row : rows) {
+                if (row.getName() != null) {
+                    building.put(row.getName());
+                }
+            }
+            loaded += rows.size();
+            if (rows.size() < WARM_UP_CHUNK) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+
+        filter = building;
+        loading = null;
+        log.info("member name filter loaded: {} names, {} bits, {} hashes in {} ms",
+                loaded, building.bitSize(), building.hashCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /* false 이면 없는 이름이 확실함 */
+    public boolean mightContain(String name) {
+        BloomFilter current = filter;
+        return current == null || name == null || current.mightContain(name);
+    }
+
+    public void add(String name) {
+        if (name == null) {
+            return;
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(name);
+        }
+        BloomFilter building = loading;
+        if (building != null) {
+            building.put(name);
+        }
+    }
+}
@@ -3,34 +3,62 @@ package jpabook.jpashop.service;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final String DUPLICATE_MEMBER = "이미 존재하는 회원입니다.";
+
     private final MemberRepository memberRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final MemberNameFilter memberNameFilter;
 
     // 회원가입
     @Transactional
     public Long join(Member member) {
-        validateDuplicateMember(member);    // 중복 회원 검증
-        return memberRepository.save(member).getId();
+        validateDuplicateMember(member.getName());    // 중복 회원 검증
+        memberRepository.save(member);
+        memberNameFilter.add(member.getName());
+        flushMemberName();
+        return member.getId();
+    }
+
+    private void validateDuplicateMember(String name) {
+        // 필터에 없는 이름 -> 새 이름이 확실하므로 조회 생략
+        // 동시에 같은 이름으로 가입하는 경우는 member.name unique 인덱스가 막음 (flushMemberName)
+        if (memberNameFilter.mightContain(name) && memberRepository.existsByName(name)) {
+            throw new IllegalStateException(DUPLICATE_MEMBER);
+        }
     }
 
-    private void validateDuplicateMember(Member member) {
-        // EXCEPTION
-        // 멀티스레드 동시성 문제 해결을 위해서는 member.name을 unique 잡길 권장
-        List<Member> findMembers = memberRepository.findByName(member.getName());
-        if(!findMembers.isEmpty()) {
-            throw new IllegalStateException("이미 존재하는 회원입니다.");
+    // insert/update를 바로 실행해서 이름 unique 제약 위반을 중복 회원 예외로 변환
+    private void flushMemberName() {
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateName(e)) {
+                throw new IllegalStateException(DUPLICATE_MEMBER, e);
+            }
+            throw e;
         }
     }
 
+    private static boolean isDuplicateName(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Member.NAME_UNIQUE_INDEX);
+    }
+
     public List<Member> findMembers() {
         return memberRepository.findAll();
     }
@@ -42,7 +70,13 @@ public class MemberService {
     @Transactional
     public void update(Long id, String name) {
         Member member = memberRepository.findById(id).get();
-        member.setName(name);
+        if (!Objects.equals(member.getName(), name)) {
+            validateDuplicateMember(name);
+            member.setName(name);
+            memberNameFilter.add(name);
+            flushMemberName();
+        }
+        orderSummaryService.updateMemberName(id, name);   // 주문 요약의 회원 이름도 같이 변경
     }
 
 }
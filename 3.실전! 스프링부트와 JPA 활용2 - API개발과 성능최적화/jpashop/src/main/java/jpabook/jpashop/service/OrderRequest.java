@@ -0,0 +1,36 @@
+package jpabook.jpashop.service;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 1건 요청 (대량 주문용) - 회원 1명, 상품 여러 개
+ */
+@Getter @Setter
+@NoArgsConstructor
+public class OrderRequest {
+
+    private Long memberId;
+    private List<Line> items = new ArrayList<>();
+
+    public OrderRequest(Long memberId, List<Line> items) {
+        this.memberId = memberId;
+        this.items = items;
+    }
+
+    @Getter @Setter
+    @NoArgsConstructor
+    public static class Line {
+        private Long itemId;
+        private int count;
+
+        public Line(Long itemId, int count) {
+            this.itemId = itemId;
+            this.count = count;
+        }
+    }
+}
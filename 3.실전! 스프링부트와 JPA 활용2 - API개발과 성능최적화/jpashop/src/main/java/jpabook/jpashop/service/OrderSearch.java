@@ -7,6 +7,19 @@ import lombok.Setter;
 @Getter @Setter
 public class OrderSearch {
 
-    private String memberName;  // 회원 이름
+    public static final int MAX_SIZE = 1000;
+
+    private String memberName;  // 회원 이름 (앞부분 일치)
     private OrderStatus orderStatus;    // 주문 상태 [ORDER, CANCEL]
+
+    private Long cursor;        // 이전 페이지 마지막 주문 id (order_id 역순 키셋), 첫 페이지는 null
+    private Integer size;       // 페이지 크기, 없으면 MAX_SIZE
+    private boolean withCount;  // 전체 건수 필요 여부
+
+    public int getLimit() {
+        if (size == null) {
+            return MAX_SIZE;
+        }
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
 }
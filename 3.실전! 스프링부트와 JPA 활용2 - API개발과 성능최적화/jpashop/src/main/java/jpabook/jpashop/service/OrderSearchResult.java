@@ -0,0 +1,23 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.service.query.OrderDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 검색 결과 한 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class OrderSearchResult {
+
+    private List<OrderDto> orders;
+    private Long nextCursor;    // 다음 페이지 요청 시 cursor, 마지막 페이지면 null
+    private Long totalCount;    // withCount=false 이면 null
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
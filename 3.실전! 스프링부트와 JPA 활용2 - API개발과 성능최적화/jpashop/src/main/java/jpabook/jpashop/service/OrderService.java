@@ -4,15 +4,30 @@ import jpabook.jpashop.domain.Delivery;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderItem;
+import jpabook.jpashop.domain.exception.NotEnoughStockException;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemQuantity;
 import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.repository.MemberRepository;
 import jpabook.jpashop.repository.OrderRepository;
+import jpabook.jpashop.repository.support.EntityEvictor;
+import jpabook.jpashop.service.query.OrderDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.*;
 
 @Service
 @Transactional(readOnly = true)
@@ -22,6 +37,10 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final EntityEvictor entityEvictor;
+
+    static final int CANCEL_CHUNK_SIZE = 1000;
 
     /**
      * 주문
@@ -46,10 +65,108 @@ public class OrderService {
         //주문 저장
         // orderItem, delivery 가 자동을 persist ? Order에서 두 값을 CASCADE 했기 때문
         orderRepository.save(order);
+        orderSummaryService.record(order);
 
         return order.getId();
     }
 
+    /**
+     * 주문 - 재고 선점 방식
+     * 상품 엔티티는 가격 조회에만 사용하고 재고는 조건부 UPDATE 한 번으로 차감
+     * -> 동시 주문에서도 갱신 손실/초과 판매 없음, 상품 행 잠금은 UPDATE 순간부터 커밋까지만
+     */
+    @Transactional
+    public Long orderWithStockReservation(Long memberId, Long itemId, int count) {
+
+        // 엔티티 조회 (2차 캐시)
+        Member member = memberRepository.findById(memberId).get();
+        Item item = itemRepository.findOne(itemId);
+
+        // 재고 차감
+        if (!itemRepository.decreaseStock(itemId, count)) {
+            throw new NotEnoughStockException("need more stock");
+        }
+
+        // 배송정보
+        Delivery delivery = new Delivery();
+        delivery.setAddress(member.getAddress());
+
+        // 주문상품, 주문 생성
+        OrderItem orderItem = OrderItem.createOrderItemWithReservedStock(item, item.getPrice(), count);
+        Order order = Order.createOrder(member, delivery, orderItem);
+
+        orderRepository.save(order);
+        orderSummaryService.record(order);
+        return order.getId();
+    }
+
+    /**
+     * 대량 주문 - 한 트랜잭션에서 여러 주문(주문당 상품 여러 개) 저장
+     * - 회원, 상품은 IN 쿼리로 한 번에 조회
+     * - 재고는 상품별 수량을 합쳐서 상품당 조건부 UPDATE 1번 (하나라도 부족하면 전체 롤백)
+     *   상품 id 순서로 UPDATE -> 같은 상품을 다른 순서로 담은 대량 주문끼리 교착 상태 없음
+     * - 주문/배송/주문상품 insert는 hibernate.jdbc.batch_size + order_inserts 로 묶어서 전송
+     */
+    @Transactional
+    public List<Long> orderBatch(List<OrderRequest> requests) {
+
+        // 엔티티 조회
+        Map<Long, Member> members = memberRepository.findAllById(
+                        requests.stream().map(OrderRequest::getMemberId).collect(toSet()))
+                .stream().collect(toMap(Member::getId, m -> m));
+        Map<Long, Item> items = itemRepository.findAllById(
+                        requests.stream().flatMap(r -> r.getItems().stream()).map(OrderRequest.Line::getItemId).collect(toSet()))
+                .stream().collect(toMap(Item::getId, i -> i));
+
+        // 재고 차감 (상품별 합계, 상품 id 순서 = 행 잠금 순서)
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderRequest request : requests) {
+            if (request.getItems().isEmpty()) {
+                throw new IllegalArgumentException("주문 상품이 없습니다. memberId=" + request.getMemberId());
+            }
+            for (OrderRequest.Line line : request.getItems()) {
+                if (line.getCount() < 1) {  // 음수 수량은 재고 차감 UPDATE를 재고 증가로 바꿈
+                    throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다. itemId=" + line.getItemId());
+                }
+                quantities.merge(line.getItemId(), line.getCount(), Integer::sum);
+            }
+        }
+        quantities.forEach((itemId, quantity) -> {
+            if (!items.containsKey(itemId)) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다. itemId=" + itemId);
+            }
+            if (!itemRepository.decreaseStock(itemId, quantity)) {
+                throw new NotEnoughStockException("need more stock. itemId=" + itemId);
+            }
+        });
+
+        // 주문 생성, 저장
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (OrderRequest request : requests) {
+            Member member = members.get(request.getMemberId());
+            if (member == null) {
+                throw new IllegalArgumentException("존재하지 않는 회원입니다. memberId=" + request.getMemberId());
+            }
+
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+
+            OrderItem[] orderItems = request.getItems().stream()
+                    .map(line -> {
+                        Item item = items.get(line.getItemId());
+                        return OrderItem.createOrderItemWithReservedStock(item, item.getPrice(), line.getCount());
+                    })
+                    .toArray(OrderItem[]::new);
+
+            Order order = Order.createOrder(member, delivery, orderItems);
+            orderRepository.save(order);
+            orderSummaryService.record(order);
+            orders.add(order);
+        }
+
+        return orders.stream().map(Order::getId).collect(toList());
+    }
+
     /**
      * 주문 취소
      */
@@ -59,10 +176,98 @@ public class OrderService {
         Order order = orderRepository.findOne(orderId);
         // 주문 취소
         order.cancel();
+        orderSummaryService.cancel(order);
+    }
+
+    /**
+     * 주문 일괄 취소 - 주문/주문상품/상품 엔티티를 읽지 않음
+     * 주문 1000개씩: 취소 가능 여부(주문 + 배송 상태) 조회 1번, 주문 UPDATE 1번, 상품별 수량 합계 조회 1번
+     * 재고 복구는 전체 묶음의 상품별 합계로 상품 1000개당 UPDATE 1번 (CASE)
+     * 이미 취소/배송 완료/없는 주문은 건너뛰고 결과에 포함
+     */
+    @Transactional
+    public BulkCancelResult cancelOrders(Collection<Long> orderIds) {
+        List<Long> ids = orderIds.stream().distinct().sorted().toList();
+        List<Long> cancelled = new ArrayList<>();
+        Map<Long, Integer> restock = new HashMap<>();   // 상품 id -> 복구 수량
+
+        for (int from = 0; from < ids.size(); from += CANCEL_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CANCEL_CHUNK_SIZE));
+            List<Long> targets = orderRepository.findCancellableIds(chunk);
+            if (targets.isEmpty()) {
+                continue;
+            }
+            if (orderRepository.cancelAll(targets) != targets.size()) {
+                // 조회 이후 다른 트랜잭션이 취소/배송 완료 -> 전체 롤백
+                throw new IllegalStateException("취소 중 주문 상태가 변경되었습니다. 다시 시도해 주세요.");
+            }
+            for (ItemQuantity itemQuantity : orderRepository.findItemQuantities(targets)) {
+                restock.merge(itemQuantity.getItemId(), Math.toIntExact(itemQuantity.getQuantity()), Integer::sum);
+            }
+            orderSummaryService.cancelAll(targets);
+            entityEvictor.evict(Order.class, targets);
+            cancelled.addAll(targets);
+        }
+
+        List<Long> itemIds = restock.keySet().stream().sorted().toList();  // 항상 같은 순서로 행 잠금
+        for (int from = 0; from < itemIds.size(); from += CANCEL_CHUNK_SIZE) {
+            List<Long> chunk = itemIds.subList(from, Math.min(itemIds.size(), from + CANCEL_CHUNK_SIZE));
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            chunk.forEach(itemId -> quantities.put(itemId, restock.get(itemId)));
+            itemRepository.addStock(quantities);
+            entityEvictor.evict(Item.class, chunk);
+        }
+
+        List<Long> skipped = new ArrayList<>(ids);
+        skipped.removeAll(new HashSet<>(cancelled));
+        return new BulkCancelResult(cancelled.size(), skipped, itemIds.size());
+    }
+
+    /**
+     * 회원의 배송 전 주문 전체 취소
+     */
+    @Transactional
+    public BulkCancelResult cancelUnshippedOrders(Long memberId) {
+        return cancelOrders(orderRepository.findCancellableIdsByMember(memberId));
+    }
+
+    /* 일괄 취소 결과 */
+    @Getter
+    @AllArgsConstructor
+    public static class BulkCancelResult {
+        private int cancelled;
+        private List<Long> skippedOrderIds;     // 이미 취소, 배송 완료, 없는 주문
+        private int restockedItems;             // 재고를 복구한 상품 수
     }
 
     // 검색
     public List<Order> findOrder(OrderSearch orderSearch){
         return orderRepository.findAll(orderSearch);
     }
+
+    /**
+     * 검색 + 키셋 페이징
+     * - 한 건 더 조회해서 다음 페이지 여부 판단
+     * - 전체 건수는 요청했을 때만, 첫 페이지가 다 차지 않았으면 count 쿼리 없이 조회 건수 사용
+     * - 트랜잭션 안에서 DTO로 변환 (open-in-view: false)
+     */
+    public OrderSearchResult searchOrders(OrderSearch orderSearch) {
+        int pageSize = orderSearch.getLimit();
+        List<Order> orders = orderRepository.findAll(orderSearch, pageSize + 1);
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
+
+        Long totalCount = null;
+        if (orderSearch.isWithCount()) {
+            totalCount = orderSearch.getCursor() == null && !hasNext
+                    ? orders.size()
+                    : orderRepository.count(orderSearch);
+        }
+
+        List<OrderDto> result = orders.stream().map(OrderDto::new).collect(toList());
+        Long nextCursor = hasNext ? orders.get(orders.size() - 1).getId() : null;
+        return new OrderSearchResult(result, nextCursor, totalCount);
+    }
 }
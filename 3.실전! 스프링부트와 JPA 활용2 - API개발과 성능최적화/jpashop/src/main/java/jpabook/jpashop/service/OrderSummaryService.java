@@ -0,0 +1,108 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSummary;
+import jpabook.jpashop.repository.order.summary.OrderSummaryRepository;
+import jpabook.jpashop.repository.support.EntityEvictor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 주문 요약(order_summary) 읽기 모델 관리
+ * - 주문/취소: OrderService 트랜잭션 안에서 record / cancel 호출 -> 원본과 함께 커밋/롤백
+ * - rebuild : order_id 구간별로 원본에서 다시 계산 (기존 데이터 backfill, 정합성 깨졌을 때 복구)
+ * - check   : 원본과 다른 행 검사
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    // 재생성 구간 크기 -> 구간마다 트랜잭션을 나눠서 잠금/undo 크기를 제한
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+    private static final int CHECK_SAMPLE_SIZE = 100;
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final EntityEvictor entityEvictor;
+    private final PlatformTransactionManager transactionManager;
+
+    @Transactional
+    public void record(Order order) {
+        orderSummaryRepository.save(OrderSummary.from(order));
+    }
+
+    @Transactional
+    public void cancel(Order order) {
+        OrderSummary summary = orderSummaryRepository.findOne(order.getId());
+        if (summary == null) {  // 아직 backfill 되지 않은 주문
+            orderSummaryRepository.save(OrderSummary.from(order));
+            return;
+        }
+        summary.cancel();
+    }
+
+    @Transactional
+    public void cancelAll(List<Long> orderIds) {
+        orderSummaryRepository.cancelAll(orderIds);
+        entityEvictor.evict(OrderSummary.class, orderIds);
+    }
+
+    @Transactional
+    public void updateMemberName(Long memberId, String memberName) {
+        orderSummaryRepository.updateMemberName(memberId, memberName);
+    }
+
+    /**
+     * 전체 재생성 - 구간(order_id)마다 별도 트랜잭션
+     * @return 재생성한 요약 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long maxOrderId = tx.execute(s -> orderSummaryRepository.findMaxOrderId());
+
+        long rows = 0;
+        long start = System.nanoTime();
+        for (long from = 1; from <= maxOrderId; from += REBUILD_CHUNK_SIZE) {
+            long fromId = from;
+            long toId = from + REBUILD_CHUNK_SIZE - 1;
+            rows += tx.execute(s -> orderSummaryRepository.rebuildRange(fromId, toId));
+        }
+        log.info("order_summary rebuilt: {} rows, {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /* 일부 구간만 재생성 (check 결과로 찾은 주문 복구 등) */
+    @Transactional
+    public int rebuildRange(long fromOrderId, long toOrderId) {
+        return orderSummaryRepository.rebuildRange(fromOrderId, toOrderId);
+    }
+
+    public CheckResult check() {
+        List<Long> mismatched = orderSummaryRepository.findMismatchedOrderIds(CHECK_SAMPLE_SIZE);
+        List<Long> orphaned = orderSummaryRepository.findOrphanedOrderIds(CHECK_SAMPLE_SIZE);
+        if (!mismatched.isEmpty() || !orphaned.isEmpty()) {
+            log.warn("order_summary inconsistent: mismatched={}, orphaned={}", mismatched, orphaned);
+        }
+        return new CheckResult(mismatched.isEmpty() && orphaned.isEmpty(), mismatched, orphaned);
+    }
+
+    /* 정합성 검사 결과 - id는 최대 CHECK_SAMPLE_SIZE개 */
+    @Getter
+    @AllArgsConstructor
+    public static class CheckResult {
+        private boolean consistent;
+        private List<Long> mismatchedOrderIds;  // 요약 행 없음 또는 값 불일치
+        private List<Long> orphanedOrderIds;    // 원본 주문 없음
+    }
+}
@@ -0,0 +1,21 @@
+package jpabook.jpashop.service.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지 (키셋 페이징)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursorResult {
+
+    private List<OrderDto> data;
+    private Long nextCursor;    // 다음 페이지 요청 시 cursor, 마지막 페이지면 null
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -18,6 +18,8 @@ public class OrderDto {
     private LocalDateTime orderDate;
     private OrderStatus orderStatus;
     private Address address;
+    private int totalPrice;     // 주문에 저장된 합계 -> orderItems 로딩 없이 사용 가능
+    private int itemCount;
     private List<OrderItemDto> orderItems;     // 엔티티 의존을 완전히 끊어야 한다.
 
     public OrderDto(Order o) {
@@ -26,6 +28,8 @@ public class OrderDto {
         orderDate = o.getOrderDate();
         orderStatus = o.getStatus();
         address = o.getDelivery().getAddress();
+        totalPrice = o.getTotalPrice();
+        itemCount = o.getItemCount();
         orderItems = o.getOrderItems().stream()
                 .map(orderItem -> new OrderItemDto(orderItem))
                 .collect(toList());
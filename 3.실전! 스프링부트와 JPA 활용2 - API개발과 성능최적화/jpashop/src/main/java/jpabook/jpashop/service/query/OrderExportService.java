@@ -0,0 +1,56 @@
+package jpabook.jpashop.service.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.repository.order.query.OrderFlatDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * 주문 전체 NDJSON export
+ * 플랫 데이터를 o.id 순으로 스트리밍하면서 연속된 행을 주문 1건으로 묶고,
+ * 묶음이 끝나는 즉시 한 줄로 써서 내보낸다. -> 메모리에는 항상 주문 1건만 유지
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private final OrderQueryRepository orderQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    public long exportOrders(OutputStream out) throws IOException {
+        long[] count = {0};
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);   // 응답 스트림은 컨테이너가 닫음
+
+        try (Stream<OrderFlatDto> rows = orderQueryRepository.streamAllByDto_flat()) {
+            OrderQueryRepository.ORDER_FLAT_ASSEMBLER.assemble(rows.iterator(), order -> {
+                writeLine(generator, order);
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            generator.close();
+        }
+        return count[0];
+    }
+
+    private void writeLine(JsonGenerator generator, OrderQueryDto order) {
+        try {
+            generator.writeObject(order);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -11,18 +11,51 @@ import java.util.List;
 
 import static java.util.stream.Collectors.toList;
 
+/**
+ * 주문 조회 전용 서비스
+ * readOnly 트랜잭션 -> 세션 기본값 read-only + FlushMode.MANUAL
+ * 조회한 엔티티의 스냅샷(변경감지용 사본)을 만들지 않고, 커밋 시 flush/dirty checking도 하지 않음
+ * (StatelessSession은 지연 로딩이 안 되어 DTO 변환 중 LAZY 연관관계를 쓸 수 없으므로 read-only 세션 사용)
+ * OrderRepository 목록 메서드는 쓰기 트랜잭션에서도 쓰이므로 read-only 힌트를 두지 않고 여기서 세션 단위로 적용
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class OrderQueryService {
 
     private final OrderRepository orderRepository;
 
     public List<OrderDto> orderV2() {
         List<Order> orders = orderRepository.findAllByString(new OrderSearch());
-        List<OrderDto> collect = orders.stream()
+        return toDtos(orders);
+    }
+
+    public List<OrderDto> orderV3() {
+        List<Order> orders = orderRepository.findAllWithItem();
+        return toDtos(orders);
+    }
+
+    public List<OrderDto> orderV3_page(int offset, int limit) {
+        List<Order> orders = orderRepository.findAllWithMemberDelivery(offset, limit);
+        return toDtos(orders);
+    }
+
+    /* 한 건 더 조회해서 다음 페이지 존재 여부 확인 -> 잘라낸 뒤 DTO 변환
+       더 조회한 주문은 detach -> orderItems 배치 IN 조회에 같이 묶이지 않음 */
+    public OrderCursorResult orderV3_cursor(Long cursor, int size) {
+        List<Order> orders = orderRepository.findAllWithMemberDeliveryAfter(cursor, size + 1);
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orderRepository.detach(orders.get(size));
+            orders = orders.subList(0, size);
+        }
+        Long nextCursor = hasNext ? orders.get(orders.size() - 1).getId() : null;
+        return new OrderCursorResult(toDtos(orders), nextCursor);
+    }
+
+    private List<OrderDto> toDtos(List<Order> orders) {
+        return orders.stream()
                 .map(o -> new OrderDto(o))
                 .collect(toList());
-        return collect;
     }
 }
@@ -0,0 +1 @@
+create sequence if not exists change_seq;
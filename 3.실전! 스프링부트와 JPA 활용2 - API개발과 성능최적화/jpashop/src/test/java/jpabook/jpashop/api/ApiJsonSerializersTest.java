@@ -0,0 +1,75 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.hibernate5.jakarta.Hibernate5JakartaModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jpabook.jpashop.domain.*;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.service.query.OrderDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApiJsonSerializersTest {
+
+    @Autowired ObjectMapper objectMapper;
+
+    // 전용 serializer 없는 기본(리플렉션) 직렬화
+    ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+            .modules(new JavaTimeModule(), new Hibernate5JakartaModule())
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void 전용_serializer_등록() throws Exception {
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(OrderQueryDto.class))
+                .isInstanceOf(ApiJsonSerializers.OrderQueryDtoSerializer.class);
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(OrderDto.class))
+                .isInstanceOf(ApiJsonSerializers.OrderDtoSerializer.class);
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(MemberApiController.MemberDto.class))
+                .isInstanceOf(ApiJsonSerializers.MemberDtoSerializer.class);
+    }
+
+    @Test
+    void 주문_DTO_기본_직렬화와_같은_JSON() throws Exception {
+        LocalDateTime orderDate = LocalDateTime.of(2024, 1, 2, 3, 4, 0, 120_000_000);
+        OrderQueryDto orderQueryDto = new OrderQueryDto(1L, "userA \"quoted\"", orderDate, OrderStatus.ORDER,
+                new Address("서울", "1", "1111"),
+                List.of(new OrderItemQueryDto(1L, "JPA1 BOOK", 10000, 1), new OrderItemQueryDto(1L, null, 20000, 2)));
+        OrderQueryDto empty = new OrderQueryDto(2L, null, null, null, null);
+        OrderQueryDto noNanos = new OrderQueryDto(3L, "userC", LocalDateTime.of(999, 12, 31, 23, 59, 59), OrderStatus.CANCEL, null, List.of());
+        OrderQueryDto nanos = new OrderQueryDto(4L, "userD", LocalDateTime.of(2024, 10, 9, 8, 7, 6, 123_456_789), OrderStatus.ORDER, null, List.of());
+        List<OrderQueryDto> orders = List.of(orderQueryDto, empty, noNanos, nanos);
+
+        assertThat(objectMapper.writeValueAsString(orders))
+                .isEqualTo(reflective.writeValueAsString(orders));
+        assertThat(objectMapper.writeValueAsString(createOrderDto(orderDate)))
+                .isEqualTo(reflective.writeValueAsString(createOrderDto(orderDate)));
+        assertThat(objectMapper.writeValueAsString(new MemberApiController.Result<>(List.of(new MemberApiController.MemberDto("userA")))))
+                .isEqualTo(reflective.writeValueAsString(new MemberApiController.Result<>(List.of(new MemberApiController.MemberDto("userA")))));
+    }
+
+    private OrderDto createOrderDto(LocalDateTime orderDate) {
+        Member member = new Member();
+        member.setName("userB");
+        Delivery delivery = new Delivery();
+        delivery.setAddress(new Address("부산", "2", "2222"));
+        Book book = new Book();
+        book.setName("SPRING1 BOOK");
+
+        Order order = Order.createOrder(member, delivery, OrderItem.createOrderItemWithReservedStock(book, 20000, 3));
+        order.setId(7L);
+        order.setOrderDate(orderDate);
+        return new OrderDto(order);
+    }
+}
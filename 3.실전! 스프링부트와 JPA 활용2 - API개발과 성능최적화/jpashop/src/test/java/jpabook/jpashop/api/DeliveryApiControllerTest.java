@@ -0,0 +1,32 @@
+package jpabook.jpashop.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DeliveryApiControllerTest {
+
+    @Autowired DeliveryApiController deliveryApiController;
+
+    @Test
+    void 배송_id가_없으면_400() {
+        DeliveryApiController.CompleteDeliveriesRequest missing = new DeliveryApiController.CompleteDeliveriesRequest();
+        DeliveryApiController.CompleteDeliveriesRequest empty = new DeliveryApiController.CompleteDeliveriesRequest();
+        empty.setDeliveryIds(List.of());
+
+        assertThatThrownBy(() -> deliveryApiController.complete(missing))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> deliveryApiController.complete(empty))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,31 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.service.query.OrderDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderApiControllerTest {
+
+    @Autowired OrderApiController orderApiController;
+
+    @Test
+    void offset_페이지는_id순이고_범위를_벗어난_값은_보정() {
+        // Given - InitDb 주문 2건
+        List<OrderDto> all = orderApiController.ordersV3_page(0, 100);
+
+        // When - 음수 offset -> 0, limit 0 -> 1
+        List<OrderDto> first = orderApiController.ordersV3_page(-5, 0);
+        List<OrderDto> second = orderApiController.ordersV3_page(1, 1);
+
+        // Then
+        assertThat(all).extracting(OrderDto::getOrderId).isSorted();
+        assertThat(first).extracting(OrderDto::getOrderId).containsExactly(all.get(0).getOrderId());
+        assertThat(second).extracting(OrderDto::getOrderId).containsExactly(all.get(1).getOrderId());
+    }
+}
@@ -0,0 +1,130 @@
+package jpabook.jpashop.api;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSummary;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.service.ItemBulkRow;
+import jpabook.jpashop.service.ItemService;
+import jpabook.jpashop.service.MemberService;
+import jpabook.jpashop.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 목록 ETag - 목록에 보이는 값(주문, 회원 이름, 상품 가격)이 커밋되면 바뀌어야 함
+ * 애플리케이션을 거치지 않은 변경(직접 SQL)도 포함
+ * 커밋된 값을 다른 커넥션에서 읽으므로 @Transactional 없이 테스트하고 직접 정리
+ */
+@SpringBootTest
+class OrderListETagTest {
+
+    @Autowired OrderSimpleApiController orderSimpleApiController;
+    @Autowired OrderApiController orderApiController;
+    @Autowired OrderService orderService;
+    @Autowired MemberService memberService;
+    @Autowired ItemService itemService;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    Long memberId;
+    Long itemId;
+    Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(s -> {
+            Member member = new Member();
+            member.setName("ETag회원");
+            member.setAddress(new Address("서울", "강가", "123-123"));
+            em.persist(member);
+
+            Book book = new Book();
+            book.setName("ETag BOOK");
+            book.setPrice(10000);
+            book.setStockQuantity(10);
+            em.persist(book);
+
+            memberId = member.getId();
+            itemId = book.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> {
+            if (orderId != null) {
+                em.remove(em.find(Order.class, orderId));
+                em.remove(em.find(OrderSummary.class, orderId));
+            }
+            em.remove(em.find(Item.class, itemId));
+            em.remove(em.find(Member.class, memberId));
+        });
+    }
+
+    @Test
+    void 주문_회원이름_상품가격이_바뀌면_ETag도_바뀜() {
+        String initial = etag();
+
+        orderId = orderService.order(memberId, itemId, 1);
+        String ordered = etag();
+        assertThat(ordered).isNotEqualTo(initial);
+        assertThat(orderSimpleApiController.orderV4(initial).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        memberService.update(memberId, "ETag회원2");            // 변경 감지
+        String renamed = etag();
+        assertThat(renamed).isNotEqualTo(ordered);
+
+        itemService.bulkUpdate(List.of(new ItemBulkRow(itemId, 12000, 0, null)));  // JDBC batch
+        String repriced = etag();
+        assertThat(repriced).isNotEqualTo(renamed);
+
+        orderService.cancelOrders(List.of(orderId));            // 벌크 UPDATE
+        assertThat(etag()).isNotEqualTo(repriced);
+    }
+
+    @Test
+    void JPA를_거치지_않은_변경도_ETag에_반영() {
+        orderId = orderService.order(memberId, itemId, 1);
+
+        String before = etag();
+        jdbcTemplate.update("update member set name = ? where member_id = ?", "ETag회원3", memberId);
+        String renamed = etag();
+        assertThat(renamed).isNotEqualTo(before);
+        assertThat(orderSimpleApiController.orderV4(before).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        jdbcTemplate.update("update item set price = ? where item_id = ?", 15000, itemId);
+        String repriced = etag();
+        assertThat(repriced).isNotEqualTo(renamed);
+
+        jdbcTemplate.update("update delivery set status = 'COMP'" +
+                " where delivery_id = (select delivery_id from orders where order_id = ?)", orderId);
+        assertThat(etag()).isNotEqualTo(repriced);
+    }
+
+    @Test
+    void 변경이_없으면_V4_V5_모두_304() {
+        String etag = etag();
+
+        assertThat(orderSimpleApiController.orderV4(etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(orderApiController.ordersV5(etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    private String etag() {
+        return orderSimpleApiController.orderV4(null).getHeaders().getETag();
+    }
+}
@@ -0,0 +1,56 @@
+package jpabook.jpashop.init;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "jpashop.seed.enabled=true",
+        "jpashop.seed.members=300",
+        "jpashop.seed.items=50",
+        "jpashop.seed.max-orders-per-member=4",
+        "jpashop.seed.max-items-per-order=3",
+        "jpashop.seed.threads=2",
+        "jpashop.seed.batch-size=100"})
+class BulkSeederTest {
+
+    @Autowired EntityManager em;
+
+    @Test
+    void 대량_데이터_생성() {
+        // Given - 컨텍스트 시작 시 InitDb가 BulkSeeder 실행
+
+        // Then
+        assertThat(count("select count(m) from Member m")).isEqualTo(300);
+        assertThat(count("select count(i) from Item i")).isEqualTo(50);
+        long orders = count("select count(o) from Order o");
+        assertThat(orders).isBetween(300L, 1200L);
+        assertThat(count("select count(d) from Delivery d")).isEqualTo(orders);
+        assertThat(count("select count(oi) from OrderItem oi")).isBetween(orders, orders * 3);
+    }
+
+    @Test
+    void Zipf_분포는_앞쪽이_많이_뽑힘() {
+        ZipfSampler sampler = new ZipfSampler(100, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+
+        int[] counts = new int[101];
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        assertThat(counts[0]).isZero();
+        assertThat(counts[1]).isGreaterThan(counts[2]);
+        assertThat(counts[2]).isGreaterThan(counts[10]);
+        assertThat(counts[10]).isGreaterThan(counts[100]);
+    }
+
+    private long count(String jpql) {
+        return em.createQuery(jpql, Long.class).getSingleResult();
+    }
+}
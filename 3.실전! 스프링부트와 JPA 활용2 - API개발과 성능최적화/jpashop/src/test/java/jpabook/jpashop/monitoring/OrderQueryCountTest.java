@@ -0,0 +1,88 @@
+package jpabook.jpashop.monitoring;
+
+import jpabook.jpashop.api.OrderApiController;
+import jpabook.jpashop.api.OrderSimpleApiController;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto;
+import jpabook.jpashop.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InitDb 주문 2개 기준 API별 SQL 수
+ */
+@SpringBootTest
+@ExtendWith(QueryCountExtension.class)
+class OrderQueryCountTest {
+
+    @Autowired OrderApiController orderApiController;
+    @Autowired OrderSimpleApiController orderSimpleApiController;
+    @Autowired OrderService orderService;
+
+    @Test
+    void V4_N플러스1(QueryCounter.Counts counts) {
+        orderApiController.ordersV4();
+
+        // 주문 1번 + 주문상품 주문 수(2)만큼
+        assertThat(counts.getStatements()).isEqualTo(3);
+    }
+
+    @Test
+    void V5_컬렉션_IN_조회(QueryCounter.Counts counts) {
+        orderApiController.ordersV5(null);
+
+        // 변경 토큰 1번 + 주문 1번 + 주문상품 IN 1번
+        assertThat(counts.getStatements()).isEqualTo(3);
+        assertThat(counts.getEntityLoads()).isZero();
+    }
+
+    @Test
+    void V6_플랫_조회(QueryCounter.Counts counts) {
+        orderApiController.ordersV6();
+
+        assertThat(counts.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    void 간단주문_V4_DTO_조회(QueryCounter.Counts counts) {
+        orderSimpleApiController.orderV4(null);
+
+        // 변경 토큰 1번 + 주문 1번
+        assertThat(counts.getStatements()).isEqualTo(2);
+    }
+
+    @Test
+    void V5_ETag가_같으면_304(QueryCounter.Counts counts) {
+        String etag = orderApiController.ordersV5(null).getHeaders().getETag();
+        counts.reset();
+
+        ResponseEntity<List<OrderQueryDto>> response = orderApiController.ordersV5(etag);
+
+        // 변경 토큰 쿼리만 실행, 본문 없음
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(counts.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void 주문이_바뀌면_ETag도_바뀜() {
+        String before = orderSimpleApiController.orderV4(null).getHeaders().getETag();
+
+        Long orderId = orderApiController.ordersV6().get(0).getOrderId();
+        orderService.cancelOrder(orderId);
+
+        ResponseEntity<List<OrderSimpleQueryDto>> response = orderSimpleApiController.orderV4(before);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(before);
+    }
+}
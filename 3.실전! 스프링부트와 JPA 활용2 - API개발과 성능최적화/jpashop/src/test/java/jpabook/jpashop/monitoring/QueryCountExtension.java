@@ -0,0 +1,37 @@
+package jpabook.jpashop.monitoring;
+
+import org.junit.jupiter.api.extension.*;
+
+/**
+ * 테스트 메서드 단위로 SQL 수 집계
+ * <pre>
+ * {@literal @}ExtendWith(QueryCountExtension.class)
+ * void test(QueryCounter.Counts counts) {
+ *     ...
+ *     assertThat(counts.getStatements()).isEqualTo(2);
+ * }
+ * </pre>
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter.stop();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.Counts.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        QueryCounter.Counts counts = QueryCounter.current();
+        return counts != null ? counts : QueryCounter.start();
+    }
+}
@@ -0,0 +1,112 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.monitoring.QueryCounter;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import jpabook.jpashop.repository.order.query.OrderTotalDto;
+import jpabook.jpashop.service.OrderSearch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderRepositoryTest {
+
+    @Autowired EntityManager em;
+    @Autowired OrderRepository orderRepository;
+    @Autowired OrderQueryRepository orderQueryRepository;
+
+    @Test
+    void 검색_이름_앞부분_일치_최신순() {
+        // Given - InitDb userA, userB 주문 각 1건
+        OrderSearch search = new OrderSearch();
+        search.setMemberName("user");
+        search.setOrderStatus(OrderStatus.ORDER);
+
+        // When
+        List<Order> querydsl = orderRepository.findAll(search);
+        List<Order> jpql = orderRepository.findAllByString(search);
+        List<Order> criteria = orderRepository.findAllByCriteria(search);
+
+        // Then
+        assertThat(querydsl).hasSize(2);
+        assertThat(querydsl.get(0).getId()).isGreaterThan(querydsl.get(1).getId());
+        assertThat(jpql).containsExactlyElementsOf(querydsl);
+        assertThat(criteria).containsExactlyElementsOf(querydsl);
+
+        search.setMemberName("serA");   // 중간 일치는 검색되지 않음
+        assertThat(orderRepository.findAll(search)).isEmpty();
+        search.setMemberName("user%");  // %, _ 는 문자 그대로
+        assertThat(orderRepository.findAllByString(search)).isEmpty();
+        assertThat(orderRepository.findAllByCriteria(search)).isEmpty();
+    }
+
+    @Test
+    void 목록_조회한_주문도_쓰기_트랜잭션에서_변경_반영() {
+        // Given - 목록 메서드로 읽은 주문 (쓰기 트랜잭션)
+        Order order = orderRepository.findAllWithMemberDelivery().get(0);
+
+        // When
+        order.getDelivery().setAddress(new Address("부산", "해운대", "48000"));
+        order.getMember().setName("변경회원");
+        em.flush();
+        em.clear();
+
+        // Then
+        Order found = orderRepository.findOne(order.getId());
+        assertThat(found.getDelivery().getAddress().getCity()).isEqualTo("부산");
+        assertThat(found.getMember().getName()).isEqualTo("변경회원");
+    }
+
+    @Test
+    void 검색_키셋_페이징() {
+        // Given
+        OrderSearch search = new OrderSearch();
+        search.setSize(1);
+
+        // When
+        List<Order> first = orderRepository.findAll(search);
+        search.setCursor(first.get(0).getId());
+        List<Order> second = orderRepository.findAllByString(search);
+        search.setCursor(second.get(0).getId());
+        List<Order> third = orderRepository.findAllByCriteria(search);
+
+        // Then
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getId()).isLessThan(first.get(0).getId());
+        assertThat(third).isEmpty();
+        assertThat(orderRepository.count(search)).isEqualTo(2);
+    }
+
+    @Test
+    void 목록_총액은_주문상품_로딩_없이_조회() {
+        // Given
+        em.clear();
+
+        // When
+        QueryCounter.Counts counts = QueryCounter.start();
+        List<Order> orders = orderRepository.findAllWithMemberDelivery();
+        Map<Long, Integer> totals = orders.stream().collect(toMap(Order::getId, Order::getTotalPrice));
+        QueryCounter.stop();
+
+        // Then
+        assertThat(counts.getStatements()).isEqualTo(1);
+        assertThat(counts.getCollectionFetches()).isZero();
+        // 저장된 합계 = 주문상품 group by 집계
+        List<OrderTotalDto> aggregates = orderQueryRepository.findOrderTotals(List.copyOf(totals.keySet()));
+        assertThat(aggregates).hasSize(totals.size());
+        aggregates.forEach(a -> assertThat(a.getTotalPrice()).isEqualTo(totals.get(a.getOrderId()).longValue()));
+    }
+}
@@ -0,0 +1,103 @@
+package jpabook.jpashop.repository.support;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.monitoring.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ChunkedInQueryLoaderTest {
+
+    @Autowired EntityManager em;
+    @Autowired ChunkedInQueryLoader chunkedInQueryLoader;
+
+    @Test
+    void 고정크기로_나누고_채우기() {
+        // Given
+        List<Long> ids = ids(1, 2500);
+
+        // When
+        List<List<Long>> chunks = ChunkedInQueryLoader.split(ids);
+
+        // Then - 1000 + 1000 + 500(-> 1000으로 채움)
+        assertThat(chunks).extracting(List::size).containsExactly(1000, 1000, 1000);
+        assertThat(chunks.get(2).subList(500, 1000)).containsOnly(2500L);
+        assertThat(chunks.stream().flatMap(List::stream).distinct().collect(Collectors.toList())).isEqualTo(ids);
+        assertThat(ChunkedInQueryLoader.split(List.of())).isEmpty();
+    }
+
+    @Test
+    void 작은_목록은_가장_작은_크기로_채우기() {
+        assertThat(ChunkedInQueryLoader.split(ids(1, 3))).extracting(List::size).containsExactly(16);
+        assertThat(ChunkedInQueryLoader.split(ids(1, 17))).extracting(List::size).containsExactly(64);
+        assertThat(ChunkedInQueryLoader.split(ids(1, 256))).extracting(List::size).containsExactly(256);
+        assertThat(ChunkedInQueryLoader.split(ids(1, 257))).extracting(List::size).containsExactly(1000);
+    }
+
+    @Test
+    void 쓰기_트랜잭션_안이면_묶음이_많아도_호출한_트랜잭션에서_조회() {
+        // Given - InitDb 주문 2건 + 없는 id -> 묶음 4개
+        List<Long> ids = orderIdsWithMissing();
+
+        // When
+        QueryCounter.Counts counts = QueryCounter.start();
+        List<Order> orders = chunkedInQueryLoader.load(ids, chunk ->
+                em.createQuery("select o from Order o where o.id in :ids", Order.class)
+                        .setParameter("ids", chunk)
+                        .getResultList());
+        QueryCounter.stop();
+
+        // Then - 같은 영속성 컨텍스트(지연 로딩 가능), 모든 statement가 집계됨
+        assertThat(orders).hasSize(2);
+        assertThat(orders).allSatisfy(o -> assertThat(em.contains(o)).isTrue());
+        assertThat(orders.get(0).getMember().getName()).isNotNull();
+        assertThat(counts.getStatements()).isEqualTo(4);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 트랜잭션_밖이면_묶음마다_읽기전용_트랜잭션으로_병렬_조회() {
+        // Given
+        List<Long> ids = orderIdsWithMissing();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // When
+        QueryCounter.Counts counts = QueryCounter.start();
+        List<Long> found = chunkedInQueryLoader.load(ids, chunk -> {
+            threads.add(Thread.currentThread().getName());
+            return em.createQuery("select o.id from Order o where o.id in :ids", Long.class)
+                    .setParameter("ids", chunk)
+                    .getResultList();
+        });
+        QueryCounter.stop();
+
+        // Then - 작업 스레드에서 조회, 작업 스레드의 statement도 호출한 쪽에 집계됨
+        assertThat(found).containsExactlyElementsOf(ids.subList(0, 2));
+        assertThat(threads).allMatch(name -> name.startsWith("in-query-loader-"));
+        assertThat(counts.getStatements()).isEqualTo(4);
+    }
+
+    private List<Long> orderIdsWithMissing() {
+        List<Long> ids = new ArrayList<>(em.createQuery("select o.id from Order o order by o.id", Long.class).getResultList());
+        ids.addAll(ids(1_000_000, 3000));
+        return ids;
+    }
+
+    private List<Long> ids(long from, int count) {
+        return LongStream.range(from, from + count).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,44 @@
+package jpabook.jpashop.repository.support;
+
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.repository.order.query.OrderFlatDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlatRowAssemblerTest {
+
+    @Test
+    void 정렬된_플랫데이터_묶기() {
+        // Given - o.id 내림차순 (SQL 정렬 순서 유지 확인)
+        List<OrderFlatDto> flats = List.of(
+                flat(3L, "itemA"), flat(3L, "itemB"),
+                flat(2L, "itemC"),
+                flat(1L, "itemD"), flat(1L, "itemE"), flat(1L, "itemF"));
+
+        // When
+        List<OrderQueryDto> result = OrderQueryRepository.ORDER_FLAT_ASSEMBLER.assemble(flats);
+
+        // Then
+        assertThat(result).extracting(OrderQueryDto::getOrderId).containsExactly(3L, 2L, 1L);
+        assertThat(result.get(0).getOrderItems()).extracting("itemName").containsExactly("itemA", "itemB");
+        assertThat(result.get(1).getOrderItems()).hasSize(1);
+        assertThat(result.get(2).getOrderItems()).hasSize(3);
+    }
+
+    @Test
+    void 빈_결과() {
+        assertThat(OrderQueryRepository.ORDER_FLAT_ASSEMBLER.assemble(List.of())).isEmpty();
+    }
+
+    private OrderFlatDto flat(Long orderId, String itemName) {
+        return new OrderFlatDto(orderId, "user" + orderId, LocalDateTime.now(), OrderStatus.ORDER,
+                new Address("서울", "1", "1111"), itemName, 10000, 1);
+    }
+}
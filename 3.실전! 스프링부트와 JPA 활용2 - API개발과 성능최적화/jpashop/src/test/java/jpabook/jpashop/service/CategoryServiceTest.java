@@ -0,0 +1,144 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.monitoring.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 트리 캐시는 커밋 후에 교체되므로 @Transactional 없이 테스트하고 직접 정리
+ */
+@SpringBootTest
+class CategoryServiceTest {
+
+    @Autowired CategoryService categoryService;
+    @Autowired CategoryTreeCache categoryTreeCache;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+
+    List<Long> itemIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> {
+            em.createNativeQuery("delete from category_item").executeUpdate();
+            em.createNativeQuery("update category set parent_id = null").executeUpdate();
+            em.createNativeQuery("delete from category").executeUpdate();
+            itemIds.forEach(id -> em.remove(em.find(Item.class, id)));
+        });
+        em.getEntityManagerFactory().getCache().evictAll();
+        categoryTreeCache.refresh();
+    }
+
+    @Test
+    void 카테고리_생성시_트리_캐시_교체() {
+        // Given
+        Long books = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", books);
+        Long java = categoryService.create("자바", it);
+
+        // When
+        CategoryTree tree = categoryService.getTree();
+
+        // Then
+        CategoryNode node = tree.get(java);
+        assertThat(node.getDepth()).isEqualTo(2);
+        assertThat(node.getPath()).isEqualTo("/" + books + "/" + it + "/" + java + "/");
+        assertThat(node.getParent().getId()).isEqualTo(it);
+        assertThat(node.getAncestry()).extracting(CategoryNode::getName).containsExactly("도서", "IT", "자바");
+        assertThat(tree.getRoots()).extracting(CategoryNode::getId).containsExactly(books);
+        assertThat(tree.getSubtreeIds(books)).containsExactly(books, it, java);
+        assertThatThrownBy(() -> tree.getRoots().get(0).getChildren().add(node))
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        categoryService.rename(java, "Java");
+        assertThat(tree.get(java).getName()).isEqualTo("자바");     // 기존 스냅샷은 그대로
+        assertThat(categoryService.getTree().get(java).getName()).isEqualTo("Java");
+    }
+
+    @Test
+    void 하위_카테고리_상품_쿼리_한번() {
+        // Given
+        Long books = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", books);
+        Long java = categoryService.create("자바", it);
+        Long novel = categoryService.create("소설", null);
+        Long jpaBook = createBook("JPA");
+        Long springBook = createBook("SPRING");
+        Long novelBook = createBook("소설책");
+        categoryService.addItem(java, jpaBook);
+        categoryService.addItem(it, springBook);
+        categoryService.addItem(novel, novelBook);
+        categoryService.getTree();
+
+        // When
+        QueryCounter.Counts counts = QueryCounter.start();
+        List<Item> items = categoryService.findItemsUnder(books, 0, 100);
+        QueryCounter.stop();
+
+        // Then
+        assertThat(counts.getStatements()).isEqualTo(1);
+        assertThat(items).extracting(Item::getId).containsExactly(jpaBook, springBook);
+    }
+
+    @Test
+    void 하위_트리_이동() {
+        // Given
+        Long books = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", books);
+        Long java = categoryService.create("자바", it);
+        Long novel = categoryService.create("소설", null);
+        Long jpaBook = createBook("JPA");
+        categoryService.addItem(java, jpaBook);
+
+        // When
+        categoryService.move(it, novel);
+
+        // Then
+        CategoryTree tree = categoryService.getTree();
+        assertThat(tree.get(java).getPath()).isEqualTo("/" + novel + "/" + it + "/" + java + "/");
+        assertThat(tree.get(java).getDepth()).isEqualTo(2);
+        assertThat(tree.get(books).getChildren()).isEmpty();
+        assertThat(categoryService.findItemsUnder(books, 0, 100)).isEmpty();
+        assertThat(categoryService.findItemsUnder(novel, 0, 100)).extracting(Item::getId).containsExactly(jpaBook);
+        assertThatThrownBy(() -> categoryService.move(novel, java))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 없는_상위_카테고리는_예외() {
+        // Given
+        Long books = categoryService.create("도서", null);
+
+        // When / Then - 루트로 만들거나 옮기지 않음
+        assertThatThrownBy(() -> categoryService.create("IT", -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> categoryService.move(books, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(categoryService.getTree().getRoots()).extracting(CategoryNode::getName).containsExactly("도서");
+    }
+
+    private Long createBook(String name) {
+        Long id = tx.execute(s -> {
+            Book book = new Book();
+            book.setName(name);
+            book.setPrice(10000);
+            book.setStockQuantity(10);
+            em.persist(book);
+            return book.getId();
+        });
+        itemIds.add(id);
+        return id;
+    }
+}
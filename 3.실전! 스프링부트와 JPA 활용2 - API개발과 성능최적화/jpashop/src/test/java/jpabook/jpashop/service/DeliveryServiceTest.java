@@ -0,0 +1,142 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Delivery;
+import jpabook.jpashop.domain.DeliveryStatus;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSummary;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class DeliveryServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired OrderService orderService;
+    @Autowired DeliveryService deliveryService;
+    @Autowired TransactionTemplate tx;
+
+    @Test
+    void 배송완료_일괄변경() {
+        // Given
+        Member member = createMember("서울");
+        Book book = createBook();
+        Delivery first = order(member, book).getDelivery();
+        Delivery second = order(member, book).getDelivery();
+        Long version = first.getVersion();
+
+        // When
+        DeliveryService.BatchResult result = deliveryService.complete(List.of(first.getId(), second.getId(), first.getId()));
+        DeliveryService.BatchResult again = deliveryService.complete(List.of(first.getId()));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getChunks()).isEqualTo(1);
+        assertThat(again.getUpdated()).isZero();                // 이미 완료
+        assertThat(em.contains(member)).isTrue();               // em.clear() 없음
+        assertThat(first.getStatus()).isEqualTo(DeliveryStatus.COMP);  // 영속성 컨텍스트의 배송도 최신 값
+        assertThat(first.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void 배송완료_조건_일괄변경() {
+        // Given
+        Book book = createBook();
+        Order busan = order(createMember("부산"), book);
+        Order seoul = order(createMember("서울"), book);
+
+        // When
+        DeliverySearch search = new DeliverySearch();
+        search.setCity("부산");
+        DeliveryService.BatchResult result = deliveryService.completeMatching(search);
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(em.find(Delivery.class, busan.getDelivery().getId()).getStatus()).isEqualTo(DeliveryStatus.COMP);
+        assertThat(em.find(Delivery.class, seoul.getDelivery().getId()).getStatus()).isEqualTo(DeliveryStatus.READY);
+    }
+
+    @Test
+    void 배송완료_조건이_없으면_예외() {
+        assertThatThrownBy(() -> deliveryService.completeMatching(new DeliverySearch()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 호출한_트랜잭션이_없으면_묶음마다_커밋() {
+        // Given - 커밋된 주문 1건 + 없는 id로 묶음 2개 (1000 + 1)
+        Long[] ids = tx.execute(s -> {
+            Member member = createMember("대전");
+            Book book = createBook();
+            Order order = order(member, book);
+            return new Long[]{member.getId(), book.getId(), order.getId(), order.getDelivery().getId()};
+        });
+        List<Long> deliveryIds = new ArrayList<>();
+        deliveryIds.add(ids[3]);
+        LongStream.rangeClosed(1, DeliveryService.CHUNK_SIZE).forEach(i -> deliveryIds.add(ids[3] + 1_000_000 + i));
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long commits = statistics.getSuccessfulTransactionCount();
+
+        try {
+            // When
+            DeliveryService.BatchResult result = deliveryService.complete(deliveryIds);
+
+            // Then
+            assertThat(result.getChunks()).isEqualTo(2);
+            assertThat(result.getUpdated()).isEqualTo(1);
+            assertThat(statistics.getSuccessfulTransactionCount() - commits).isEqualTo(2);
+            DeliveryStatus status = tx.execute(s -> em.find(Delivery.class, ids[3]).getStatus());
+            assertThat(status).isEqualTo(DeliveryStatus.COMP);
+        } finally {
+            tx.executeWithoutResult(s -> {
+                em.remove(em.find(Order.class, ids[2]));
+                em.remove(em.find(OrderSummary.class, ids[2]));
+                em.remove(em.find(Item.class, ids[1]));
+                em.remove(em.find(Member.class, ids[0]));
+            });
+        }
+    }
+
+    private Order order(Member member, Book book) {
+        Long orderId = orderService.order(member.getId(), book.getId(), 1);
+        em.flush();
+        return em.find(Order.class, orderId);
+    }
+
+    private Member createMember(String city) {
+        Member member = new Member();
+        member.setName("회원-" + city);     // 회원 이름은 unique
+        member.setAddress(new Address(city, "강가", "123-123"));
+        em.persist(member);
+        return member;
+    }
+
+    private Book createBook() {
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(10);
+        em.persist(book);
+        return book;
+    }
+}
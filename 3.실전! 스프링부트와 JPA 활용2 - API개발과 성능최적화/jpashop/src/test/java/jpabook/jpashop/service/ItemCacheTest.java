@@ -0,0 +1,99 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 - 트랜잭션이 커밋되어야 캐시에 반영되므로 @Transactional 없이 테스트
+ */
+@SpringBootTest
+class ItemCacheTest {
+
+    @Autowired ItemService itemService;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired TransactionTemplate tx;
+
+    Statistics statistics;
+    Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        Book book = new Book();
+        book.setName("CACHE BOOK");
+        book.setPrice(10000);
+        book.setStockQuantity(10);
+        itemService.saveItem(book);
+        itemId = book.getId();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> em.remove(em.find(Item.class, itemId)));
+    }
+
+    @Test
+    void 상품_단건조회_2차캐시() {
+        // When
+        itemService.findOne(itemId);
+        itemService.findOne(itemId);
+
+        // Then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void 변경감지_수정후_캐시반영() {
+        // When
+        itemService.updateItem(itemId, new ItemEdit(10000, 20000, 10, 5));
+
+        // Then
+        Item item = itemService.findOne(itemId);
+        assertThat(item.getPrice()).isEqualTo(20000);
+        assertThat(item.getStockQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    void 벌크수정후_캐시무효화() {
+        // Given
+        itemService.findItems();
+
+        // When
+        tx.executeWithoutResult(s -> em.createQuery("update Item i set i.stockQuantity = 0 where i.id = :id")
+                .setParameter("id", itemId)
+                .executeUpdate());
+
+        // Then
+        assertThat(itemService.findOne(itemId).getStockQuantity()).isZero();
+        assertThat(itemService.findItems())
+                .filteredOn(i -> i.getId().equals(itemId))
+                .extracting(Item::getStockQuantity)
+                .containsExactly(0);
+    }
+
+    @Test
+    void 상품목록_쿼리캐시() {
+        // When
+        itemService.findItems();
+        itemService.findItems();
+
+        // Then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.controller.BookForm;
+import jpabook.jpashop.controller.ItemController;
+import jpabook.jpashop.domain.exception.ItemConflictException;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.ui.ExtendedModelMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 수정 화면 - 같은 상품을 여러 명이 동시에 수정
+ * 각 수정이 자기 트랜잭션에서 커밋되므로 @Transactional 없이 테스트하고 직접 정리
+ */
+@SpringBootTest
+class ItemEditConcurrencyTest {
+
+    // 충돌로 실패한 시도마다 다른 수정 하나는 커밋됨 -> 동시 수정 수가 재시도 횟수 이하면 모두 성공
+    static final int EDITORS = ItemService.MAX_EDIT_ATTEMPTS;
+    static final int STOCK = 100;
+
+    @Autowired ItemService itemService;
+    @Autowired ItemController itemController;
+    @Autowired ItemRepository itemRepository;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+
+    Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(s -> {
+            Book book = new Book();
+            book.setName("EDIT BOOK");
+            book.setPrice(10000);
+            book.setStockQuantity(STOCK);
+            em.persist(book);
+            itemId = book.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> em.remove(em.find(Item.class, itemId)));
+    }
+
+    @Test
+    void 동시_재고수정_갱신손실_없음() throws Exception {
+        // Given - 모두 같은 화면(가격 10000, 재고 100)을 보고 재고 +1, 가격은 그대로
+        ExecutorService executor = Executors.newFixedThreadPool(EDITORS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < EDITORS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                itemService.updateItem(itemId, new ItemEdit(10000, 10000, STOCK, STOCK + 1));
+                return null;
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - 덮어쓰기(100 -> 101)가 아니라 증감이 모두 반영
+        Item item = itemService.findOne(itemId);
+        assertThat(item.getStockQuantity()).isEqualTo(STOCK + EDITORS);
+        assertThat(item.getVersion()).isEqualTo(EDITORS);
+    }
+
+    @Test
+    void 화면을_연_뒤_가격이_바뀌면_충돌() {
+        // Given - 다른 사용자가 가격 변경, 주문으로 재고 3개 차감
+        itemService.updateItem(itemId, new ItemEdit(10000, 11000, STOCK, STOCK));
+        tx.executeWithoutResult(s -> itemRepository.decreaseStock(itemId, 3));
+
+        // When / Then - 예전 가격을 보고 수정하면 충돌
+        assertThatThrownBy(() -> itemService.updateItem(itemId, new ItemEdit(10000, 12000, STOCK, STOCK)))
+                .isInstanceOf(ItemConflictException.class);
+
+        // 가격을 건드리지 않은 재고 수정은 차감된 재고 위에 반영
+        itemService.updateItem(itemId, new ItemEdit(11000, 11000, STOCK, STOCK + 10));
+        Item item = itemService.findOne(itemId);
+        assertThat(item.getPrice()).isEqualTo(11000);
+        assertThat(item.getStockQuantity()).isEqualTo(STOCK - 3 + 10);
+    }
+
+    @Test
+    void 충돌_후_다시_저장해도_재고_증감만_반영() {
+        // Given - 화면(가격 10000, 재고 100)에서 가격 11000, 재고 +5 입력
+        BookForm form = new BookForm();
+        form.setOriginalPrice(10000);
+        form.setPrice(11000);
+        form.setOriginalStockQuantity(STOCK);
+        form.setStockQuantity(STOCK + 5);
+
+        // 그 사이 다른 사용자가 가격 변경, 주문으로 재고 3개 차감
+        itemService.updateItem(itemId, new ItemEdit(10000, 12000, STOCK, STOCK));
+        tx.executeWithoutResult(s -> itemRepository.decreaseStock(itemId, 3));
+
+        // When - 충돌 -> 현재 값 기준으로 다시 보여줌
+        String view = itemController.updateItem(itemId, form, new ExtendedModelMap());
+
+        // Then - 입력한 증감(+5)은 현재 재고 위에 유지
+        assertThat(view).isEqualTo("items/updateItemForm");
+        assertThat(form.getOriginalPrice()).isEqualTo(12000);
+        assertThat(form.getOriginalStockQuantity()).isEqualTo(STOCK - 3);
+        assertThat(form.getStockQuantity()).isEqualTo(STOCK - 3 + 5);
+
+        // 확인 후 그대로 다시 저장 -> 차감된 재고가 되살아나지 않음
+        assertThat(itemController.updateItem(itemId, form, new ExtendedModelMap())).isEqualTo("redirect:/items");
+        Item item = itemService.findOne(itemId);
+        assertThat(item.getPrice()).isEqualTo(11000);
+        assertThat(item.getStockQuantity()).isEqualTo(STOCK - 3 + 5);
+    }
+}
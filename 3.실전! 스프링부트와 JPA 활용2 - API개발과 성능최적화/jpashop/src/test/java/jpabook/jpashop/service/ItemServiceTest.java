@@ -0,0 +1,151 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Album;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.monitoring.QueryCounter;
+import jpabook.jpashop.repository.ItemListDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class ItemServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired ItemService itemService;
+    @Autowired TransactionTemplate tx;
+
+    @Test
+    void 상품목록_DTO_키셋_페이징() {
+        // Given
+        Book first = save(new Book(), "BOOK1");
+        save(new Album(), "ALBUM1");
+        Book last = save(new Book(), "BOOK2");
+        em.flush();
+        em.clear();
+        Long cursor = first.getId() - 1;
+
+        // When
+        QueryCounter.Counts counts = QueryCounter.start();
+        ItemListResult page1 = itemService.findItemPage(null, cursor, 2);
+        QueryCounter.stop();
+        ItemListResult page2 = itemService.findItemPage(null, page1.getNextCursor(), 2);
+
+        // Then
+        assertThat(counts.getStatements()).isEqualTo(1);
+        assertThat(counts.getEntityLoads()).isZero();   // 엔티티를 만들지 않음
+        assertThat(page1.getItems()).extracting(ItemListDto::getName).containsExactly("BOOK1", "ALBUM1");
+        assertThat(page1.getItems()).extracting(ItemListDto::getDtype).containsExactly("B", "A");
+        assertThat(page1.hasNext()).isTrue();
+        assertThat(page2.getItems()).extracting(ItemListDto::getId).containsExactly(last.getId());
+        assertThat(page2.hasNext()).isFalse();
+    }
+
+    @Test
+    void 상품목록_타입_필터() {
+        // Given
+        Book book = save(new Book(), "BOOK1");
+        Album album = save(new Album(), "ALBUM1");
+        em.flush();
+
+        // When
+        ItemListResult result = itemService.findItemPage("A", book.getId() - 1, 20);
+
+        // Then
+        assertThat(result.getItems()).extracting(ItemListDto::getId).containsExactly(album.getId());
+        assertThatThrownBy(() -> itemService.findItemPage("X", null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 상품_일괄변경_행별_충돌() {
+        // Given
+        Book priced = save(new Book(), "BOOK1");
+        Book stale = save(new Book(), "BOOK2");
+        Book soldOut = save(new Book(), "BOOK3");
+        em.flush();
+        Long version = priced.getVersion();
+
+        List<ItemBulkRow> rows = List.of(
+                new ItemBulkRow(priced.getId(), 12000, 5, version),
+                new ItemBulkRow(stale.getId(), 9000, 0, stale.getVersion() + 1),
+                new ItemBulkRow(soldOut.getId(), null, -11, null),
+                new ItemBulkRow(-1L, 100, 0, null),
+                new ItemBulkRow(priced.getId(), 1, 0, null),
+                new ItemBulkRow(stale.getId(), null, 0, null));
+
+        // When
+        ItemService.BulkUpdateResult result = itemService.bulkUpdate(rows);
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(6);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getConflicts())
+                .extracting(ItemService.Conflict::getItemId, ItemService.Conflict::getReason)
+                .containsExactlyInAnyOrder(
+                        tuple(stale.getId(), ItemService.ConflictReason.VERSION_MISMATCH),
+                        tuple(soldOut.getId(), ItemService.ConflictReason.NOT_ENOUGH_STOCK),
+                        tuple(-1L, ItemService.ConflictReason.NOT_FOUND),
+                        tuple(priced.getId(), ItemService.ConflictReason.DUPLICATE),
+                        tuple(stale.getId(), ItemService.ConflictReason.INVALID));
+
+        // 영속성 컨텍스트의 엔티티도 DB 값으로 갱신
+        assertThat(priced.getPrice()).isEqualTo(12000);
+        assertThat(priced.getStockQuantity()).isEqualTo(15);
+        assertThat(priced.getVersion()).isEqualTo(version + 1);
+        assertThat(stale.getPrice()).isEqualTo(10000);
+        assertThat(soldOut.getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 상품_일괄변경_묶음마다_커밋() {
+        // Given - 1번째 묶음: 정상 1행 + 없는 상품 999행, 2번째 묶음: 재고 계산 overflow -> DB 오류
+        Long[] ids = tx.execute(s -> new Long[]{save(new Book(), "BOOK1").getId(), save(new Book(), "BOOK2").getId()});
+        List<ItemBulkRow> rows = new ArrayList<>();
+        rows.add(new ItemBulkRow(ids[0], 12000, 0, null));
+        LongStream.rangeClosed(1, ItemService.BULK_CHUNK_SIZE - 1)
+                .forEach(i -> rows.add(new ItemBulkRow(ids[1] + 1_000_000 + i, 100, 0, null)));
+        rows.add(new ItemBulkRow(ids[1], null, Integer.MAX_VALUE, null));
+
+        try {
+            // When
+            ItemService.BulkUpdateResult result = itemService.bulkUpdate(rows);
+
+            // Then - 앞 묶음은 커밋, 실패한 묶음의 행만 FAILED
+            assertThat(result.getChunks()).isEqualTo(2);
+            assertThat(result.getUpdated()).isEqualTo(1);
+            assertThat(result.getConflicts()).filteredOn(c -> c.getReason() == ItemService.ConflictReason.FAILED)
+                    .extracting(ItemService.Conflict::getItemId).containsExactly(ids[1]);
+            assertThat(itemService.findOne(ids[0]).getPrice()).isEqualTo(12000);
+            assertThat(itemService.findOne(ids[1]).getStockQuantity()).isEqualTo(10);
+        } finally {
+            tx.executeWithoutResult(s -> {
+                em.remove(em.find(Item.class, ids[0]));
+                em.remove(em.find(Item.class, ids[1]));
+            });
+        }
+    }
+
+    private <T extends Item> T save(T item, String name) {
+        item.setName(name);
+        item.setPrice(10000);
+        item.setStockQuantity(10);
+        itemService.saveItem(item);
+        return item;
+    }
+}
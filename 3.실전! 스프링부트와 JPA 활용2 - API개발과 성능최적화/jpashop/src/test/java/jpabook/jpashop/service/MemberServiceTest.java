@@ -1,7 +1,10 @@
 package jpabook.jpashop.service;
 
+import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.repository.MemberRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +12,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @Transactional
@@ -17,6 +22,8 @@ class MemberServiceTest {
     @Autowired MemberService memberService;
     @Autowired
     MemberRepository memberRepository;
+    @Autowired MemberNameFilter memberNameFilter;
+    @Autowired EntityManager em;
 
     @Test
     void 회원가입() throws Exception{
@@ -50,4 +57,40 @@ class MemberServiceTest {
         }, "예외가 발생해야 한다.");
     }
 
+    @Test
+    void 필터에_없는_이름은_중복조회_생략() {
+        // Given
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Member member = new Member();
+        member.setName("새회원");
+        assertFalse(memberNameFilter.mightContain("새회원"));
+
+        // When
+        long before = statistics.getQueryExecutionCount();
+        memberService.join(member);
+        long after = statistics.getQueryExecutionCount();
+
+        // Then
+        assertEquals(before, after, "새 이름이 확실하면 중복 조회를 하지 않는다.");
+        assertTrue(memberNameFilter.mightContain("새회원"), "가입한 이름은 필터에 추가된다.");
+    }
+
+    @Test
+    void 필터가_모르는_중복은_unique_인덱스로_예외() {
+        // Given : 가입(join)을 거치지 않고 저장된 이름 -> 필터에 없음
+        Member existing = new Member();
+        existing.setName("park");
+        em.persist(existing);
+        em.flush();
+        assertFalse(memberNameFilter.mightContain("park"));
+
+        Member member = new Member();
+        member.setName("park");
+
+        // When, Then
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> memberService.join(member));
+        assertEquals("이미 존재하는 회원입니다.", e.getMessage());
+    }
+
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package jpabook.jpashop.service;
 
 import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.DeliveryStatus;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.OrderSummary;
 import jpabook.jpashop.domain.exception.NotEnoughStockException;
 import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.monitoring.QueryCounter;
 import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.repository.OrderRepository;
 import org.junit.jupiter.api.Assertions;
@@ -16,6 +19,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @SpringBootTest
 @Transactional
 class OrderServiceTest {
@@ -79,6 +84,132 @@ class OrderServiceTest {
                 () -> orderService.order(member.getId(), item.getId(), orderCount));
     }
 
+    @Test
+    void 대량주문() throws Exception{
+        // Given
+        Member member = createMember();
+        Book book1 = createBook("JPA1", 10000, 10);
+        Book book2 = createBook("JPA2", 20000, 10);
+
+        List<OrderRequest> requests = List.of(
+                new OrderRequest(member.getId(), List.of(new OrderRequest.Line(book1.getId(), 2), new OrderRequest.Line(book2.getId(), 1))),
+                new OrderRequest(member.getId(), List.of(new OrderRequest.Line(book1.getId(), 3))));
+
+        // When
+        List<Long> orderIds = orderService.orderBatch(requests);
+        em.flush();
+        em.clear();
+
+        // Then
+        Assertions.assertEquals(2, orderIds.size(), "요청한 주문 수만큼 주문 id를 돌려준다.");
+        Assertions.assertEquals(40000, orderRepository.findOne(orderIds.get(0)).getTotalPrice());
+        Assertions.assertEquals(30000, orderRepository.findOne(orderIds.get(1)).getTotalPrice());
+        Assertions.assertEquals(5, itemRepository.findOne(book1.getId()).getStockQuantity(), "상품별 주문 수량 합계만큼 재고가 줄어야 한다.");
+        Assertions.assertEquals(9, itemRepository.findOne(book2.getId()).getStockQuantity());
+    }
+
+    @Test
+    void 대량주문_재고수량초과(){
+        // Given
+        Member member = createMember();
+        Item item = createBook("JPA", 10000, 10);
+
+        // 한 건씩은 재고 안쪽이지만 합치면 초과
+        List<OrderRequest> requests = List.of(
+                new OrderRequest(member.getId(), List.of(new OrderRequest.Line(item.getId(), 6))),
+                new OrderRequest(member.getId(), List.of(new OrderRequest.Line(item.getId(), 5))));
+
+        // Then
+        Assertions.assertThrows(NotEnoughStockException.class, () -> orderService.orderBatch(requests));
+    }
+
+    @Test
+    void 대량주문_수량이_1보다_작으면_예외(){
+        // Given
+        Member member = createMember();
+        Item item = createBook("JPA", 10000, 10);
+
+        // 음수 수량으로 같은 상품의 주문 수량을 상쇄
+        List<OrderRequest> requests = List.of(
+                new OrderRequest(member.getId(), List.of(new OrderRequest.Line(item.getId(), 15))),
+                new OrderRequest(member.getId(), List.of(new OrderRequest.Line(item.getId(), -10))));
+
+        // Then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> orderService.orderBatch(requests));
+        Assertions.assertEquals(10, item.getStockQuantity(), "재고는 그대로여야 한다.");
+    }
+
+    @Test
+    void 주문_일괄취소() throws Exception{
+        // Given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 10);
+        Long first = orderService.order(member.getId(), book.getId(), 2);
+        Long second = orderService.order(member.getId(), book.getId(), 3);
+        Long shipped = orderService.order(member.getId(), book.getId(), 1);
+        orderRepository.findOne(shipped).getDelivery().setStatus(DeliveryStatus.COMP);
+        em.flush();
+
+        // When
+        OrderService.BulkCancelResult result = orderService.cancelOrders(List.of(first, second, shipped, -1L));
+
+        // Then
+        Assertions.assertEquals(2, result.getCancelled());
+        Assertions.assertEquals(List.of(-1L, shipped), result.getSkippedOrderIds(), "배송 완료/없는 주문은 건너뛴다.");
+        Assertions.assertEquals(1, result.getRestockedItems());
+        Assertions.assertEquals(OrderStatus.CANCEL, orderRepository.findOne(first).getStatus(), "영속성 컨텍스트의 주문도 최신 상태");
+        Assertions.assertEquals(9, book.getStockQuantity(), "취소된 주문 수량(2 + 3)만큼 재고 복구");
+        Assertions.assertEquals(OrderStatus.CANCEL, em.find(OrderSummary.class, second).getStatus());
+        Assertions.assertEquals(0, orderService.cancelUnshippedOrders(member.getId()).getCancelled());
+    }
+
+    @Test
+    void 주문검색_첫페이지가_다_차지_않으면_count_생략() {
+        // Given - InitDb 주문 2건
+        OrderSearch search = new OrderSearch();
+        search.setSize(20);
+
+        // When - 같은 조건에서 count 요청 여부만 다르게 (2차 캐시를 먼저 데워서 조건을 맞춤)
+        search.setWithCount(false);
+        orderService.searchOrders(search);
+        em.clear();
+
+        QueryCounter.Counts withoutCount = QueryCounter.start();
+        orderService.searchOrders(search);
+        QueryCounter.stop();
+        em.clear();
+
+        search.setWithCount(true);
+        QueryCounter.Counts withCount = QueryCounter.start();
+        OrderSearchResult result = orderService.searchOrders(search);
+        QueryCounter.stop();
+
+        // Then
+        Assertions.assertEquals(2, result.getOrders().size());
+        Assertions.assertEquals(2L, result.getTotalCount(), "조회 건수가 전체 건수");
+        Assertions.assertFalse(result.hasNext());
+        Assertions.assertEquals(withoutCount.getStatements(), withCount.getStatements(), "count 쿼리를 실행하지 않는다.");
+    }
+
+    @Test
+    void 주문검색_다음페이지가_있으면_count_실행() {
+        // Given
+        OrderSearch search = new OrderSearch();
+        search.setSize(1);
+        search.setWithCount(true);
+
+        // When
+        OrderSearchResult first = orderService.searchOrders(search);
+        search.setCursor(first.getNextCursor());
+        OrderSearchResult second = orderService.searchOrders(search);
+
+        // Then
+        Assertions.assertEquals(2L, first.getTotalCount());
+        Assertions.assertTrue(first.hasNext());
+        Assertions.assertFalse(second.hasNext());
+        Assertions.assertTrue(second.getOrders().get(0).getOrderId() < first.getNextCursor());
+    }
+
     private Member createMember() {
         Member member = new Member();
         member.setName("회원1");
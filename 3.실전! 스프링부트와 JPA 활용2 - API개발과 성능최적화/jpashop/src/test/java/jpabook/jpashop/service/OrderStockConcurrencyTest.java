@@ -0,0 +1,113 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSummary;
+import jpabook.jpashop.domain.exception.NotEnoughStockException;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 상품 하나에 64명이 동시에 주문 -> 재고 이상 팔리면 안 됨
+ * 커밋된 결과를 확인해야 하므로 @Transactional 없이 테스트하고 직접 정리
+ */
+@SpringBootTest
+class OrderStockConcurrencyTest {
+
+    static final int BUYERS = 64;
+    static final int ATTEMPTS_PER_BUYER = 4;
+    static final int STOCK = 100;
+
+    @Autowired OrderService orderService;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+
+    Long memberId;
+    Long itemId;
+    Queue<Long> orderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(s -> {
+            Member member = new Member();
+            member.setName("구매자");
+            member.setAddress(new Address("서울", "강가", "123-123"));
+            em.persist(member);
+
+            Book book = new Book();
+            book.setName("HOT BOOK");
+            book.setPrice(10000);
+            book.setStockQuantity(STOCK);
+            em.persist(book);
+
+            memberId = member.getId();
+            itemId = book.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> {
+            orderIds.forEach(id -> {
+                em.remove(em.find(Order.class, id));
+                em.remove(em.find(OrderSummary.class, id));
+            });
+            em.remove(em.find(Item.class, itemId));
+            em.remove(em.find(Member.class, memberId));
+        });
+    }
+
+    @Test
+    void 동시주문_재고선점_초과판매_없음() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger soldOut = new AtomicInteger();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < ATTEMPTS_PER_BUYER; n++) {
+                    try {
+                        orderIds.add(orderService.orderWithStockReservation(memberId, itemId, 1));
+                    } catch (NotEnoughStockException e) {
+                        soldOut.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        Integer stock = tx.execute(s -> em.createQuery("select i.stockQuantity from Item i where i.id = :id", Integer.class)
+                .setParameter("id", itemId)
+                .getSingleResult());
+
+        assertThat(orderIds).hasSize(STOCK);
+        assertThat(soldOut.get()).isEqualTo(BUYERS * ATTEMPTS_PER_BUYER - STOCK);
+        assertThat(stock).isZero();
+    }
+}
@@ -0,0 +1,94 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.OrderSummary;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.order.summary.OrderSummaryDto;
+import jpabook.jpashop.repository.order.summary.OrderSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderSummaryServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired OrderService orderService;
+    @Autowired MemberService memberService;
+    @Autowired OrderSummaryService orderSummaryService;
+    @Autowired OrderSummaryRepository orderSummaryRepository;
+
+    @Test
+    void 주문_취소시_요약_갱신() {
+        // Given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 10);
+
+        // When
+        Long orderId = orderService.order(member.getId(), book.getId(), 3);
+        em.flush();
+
+        // Then
+        OrderSummary summary = orderSummaryRepository.findOne(orderId);
+        assertThat(summary.getMemberName()).isEqualTo("회원1");
+        assertThat(summary.getItemCount()).isEqualTo(3);
+        assertThat(summary.getTotalPrice()).isEqualTo(30000);
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.ORDER);
+
+        orderService.cancelOrder(orderId);
+        memberService.update(member.getId(), "회원2");
+        em.flush();
+        em.clear();
+
+        List<OrderSummaryDto> summaries = orderSummaryRepository.findSummaries(null, member.getId(), null, 10);
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getOrderStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(summaries.get(0).getName()).isEqualTo("회원2");
+        assertThat(orderSummaryService.check().isConsistent()).isTrue();
+    }
+
+    @Test
+    void 요약_불일치_검사_후_재생성() {
+        // Given - InitDb 주문 2건, 요약 1건을 원본과 다르게 만듦
+        Long orderId = orderSummaryRepository.findSummaries(null, null, null, 1).get(0).getOrderId();
+        em.createNativeQuery("update order_summary set total_price = 0 where order_id = :orderId")
+                .setParameter("orderId", orderId)
+                .executeUpdate();
+
+        // When
+        OrderSummaryService.CheckResult before = orderSummaryService.check();
+        long rebuilt = orderSummaryService.rebuildRange(orderId, orderId);
+
+        // Then
+        assertThat(before.isConsistent()).isFalse();
+        assertThat(before.getMismatchedOrderIds()).containsExactly(orderId);
+        assertThat(rebuilt).isEqualTo(1);
+        assertThat(orderSummaryService.check().isConsistent()).isTrue();
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setName("회원1");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+        return member;
+    }
+
+    private Book createBook(String name, int price, int quantity) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(price);
+        book.setStockQuantity(quantity);
+        em.persist(book);
+        return book;
+    }
+}
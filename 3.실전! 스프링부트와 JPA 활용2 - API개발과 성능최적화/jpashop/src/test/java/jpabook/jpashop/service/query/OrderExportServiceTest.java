@@ -0,0 +1,39 @@
+package jpabook.jpashop.service.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderExportServiceTest {
+
+    @Autowired OrderExportService orderExportService;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void 주문_NDJSON_export() throws Exception {
+        // Given - InitDb 주문 2건(주문당 상품 2개)
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = orderExportService.exportOrders(out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(first.get("orderId").asLong()).isLessThan(second.get("orderId").asLong());
+        assertThat(first.get("orderItems")).hasSize(2);
+        assertThat(second.get("orderItems")).hasSize(2);
+    }
+}
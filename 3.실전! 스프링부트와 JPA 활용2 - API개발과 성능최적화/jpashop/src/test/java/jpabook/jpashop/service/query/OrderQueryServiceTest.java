@@ -0,0 +1,54 @@
+package jpabook.jpashop.service.query;
+
+import jakarta.persistence.EntityManagerFactory;
+import jpabook.jpashop.domain.OrderItem;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderQueryServiceTest {
+
+    @Autowired OrderQueryService orderQueryService;
+    @Autowired EntityManagerFactory emf;
+
+    @Test
+    void 읽기전용_조회_트랜잭션_밖에서_DTO_사용() {
+        // Given - InitDb 주문 2건(주문당 상품 2개), open-in-view: false
+
+        // When - read-only 트랜잭션 안에서 DTO 변환까지 끝나야 함
+        List<OrderDto> page = orderQueryService.orderV3_page(0, 100);
+        OrderCursorResult cursor = orderQueryService.orderV3_cursor(page.get(0).getOrderId(), 100);
+
+        // Then
+        assertThat(page).hasSize(2);
+        assertThat(page).extracting(OrderDto::getOrderId).isSorted();
+        assertThat(page).allSatisfy(o -> assertThat(o.getOrderItems()).hasSize(2));
+        assertThat(cursor.getData()).extracting(OrderDto::getOrderId).containsExactly(page.get(1).getOrderId());
+        assertThat(cursor.hasNext()).isFalse();
+    }
+
+    @Test
+    void 커서_페이지는_더_조회한_주문의_상품을_로딩하지_않음() {
+        // Given - InitDb 주문 2건, 한 페이지 1건
+
+        EntityStatistics orderItems = emf.unwrap(SessionFactory.class).getStatistics()
+                .getEntityStatistics(OrderItem.class.getName());
+        long before = orderItems.getLoadCount();
+
+        // When
+        OrderCursorResult page = orderQueryService.orderV3_cursor(null, 1);
+
+        // Then - 다음 페이지 확인용 주문은 잘라낸 뒤 DTO로 변환 -> 주문 1건의 주문상품(2개)만 로딩
+        assertThat(page.getData()).hasSize(1);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(page.getData().get(0).getOrderId());
+        assertThat(orderItems.getLoadCount() - before).isEqualTo(2);
+    }
+}